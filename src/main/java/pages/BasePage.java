@@ -3,32 +3,77 @@ package pages;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Wait;
+import utils.BackoffWait;
+import utils.BrowserContexts;
+import utils.LocatorCache;
+import utils.LocatorTimings;
+import utils.PageHelpers;
+import utils.TestUtils;
+import utils.WaitReport;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public abstract class BasePage {
     protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected FluentWait<WebDriver> fluentWait;
+    protected Wait<WebDriver> wait;
+    protected Wait<WebDriver> fluentWait;
     
-    private static final int DEFAULT_TIMEOUT = 15;
-    private static final int POLLING_INTERVAL = 1;
+    // Waits are immutable, so one instance per timeout is reused for the lifetime of the page object
+    private final Map<Duration, Wait<WebDriver>> waits = new ConcurrentHashMap<>();
+    
+    // Implicit wait currently set on each driver, so scoped changes do not need a GET /timeouts round trip
+    private static final Map<WebDriver, Duration> implicitWaits = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    // Navigations run here so the test thread is free until the page's readiness condition holds
+    private static final ExecutorService NAVIGATION_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "page-navigation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // Configured caps: explicit.wait (15s) for waits and clickable checks, implicit.wait (5s) for presence checks;
+    // the adaptive timeout is usually much lower
+    private static final int DEFAULT_TIMEOUT = TestUtils.getIntProperty("explicit.wait", 15);
+    protected static final Duration PRESENCE_CHECK_TIMEOUT = Duration.ofSeconds(TestUtils.getIntProperty("implicit.wait", 5));
     
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-        this.fluentWait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT))
-                .pollingEvery(Duration.ofSeconds(POLLING_INTERVAL))
-                .ignoring(NoSuchElementException.class, StaleElementReferenceException.class);
+        this.wait = waitFor(Duration.ofSeconds(DEFAULT_TIMEOUT));
+        this.fluentWait = wait;
+    }
+    
+    /**
+     * Reusable wait with the configured backoff polling strategy (see {@link utils.PollingStrategy}).
+     * Timeouts are rounded up to 100ms so adaptive timeouts share a small set of instances.
+     * @param timeout Maximum time to wait
+     * @return Wait that ignores NoSuchElement and StaleElementReference exceptions while polling
+     */
+    protected Wait<WebDriver> waitFor(Duration timeout) {
+        Duration rounded = Duration.ofMillis((timeout.toMillis() + 99) / 100 * 100);
+        return waits.computeIfAbsent(rounded, key -> new BackoffWait(driver, key)
+            .ignoring(NoSuchElementException.class, StaleElementReferenceException.class));
     }
     
     protected WebElement findElement(By locator) {
         try {
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            return timedUntil(locator, ElementState.PRESENT, wait, ExpectedConditions.presenceOfElementLocated(locator));
         } catch (TimeoutException e) {
             throw new RuntimeException("Element not found within timeout: " + locator, e);
         }
@@ -39,11 +84,11 @@ public abstract class BasePage {
     }
     
     protected WebElement findClickableElement(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return timedUntil(locator, ElementState.CLICKABLE, wait, ExpectedConditions.elementToBeClickable(locator));
     }
     
     protected WebElement findVisibleElement(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return timedUntil(locator, ElementState.VISIBLE, wait, ExpectedConditions.visibilityOfElementLocated(locator));
     }
     
     protected void clickElement(By locator) {
@@ -53,12 +98,26 @@ public abstract class BasePage {
         } catch (ElementClickInterceptedException e) {
             // Retry with JavaScript click
             WebElement element = findElement(locator);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+            PageHelpers.call(driver, "click", element);
         } catch (Exception e) {
             throw new RuntimeException("Failed to click element: " + locator, e);
         }
     }
     
+    /**
+     * Clicks an element that was already found in the wanted state, e.g. by {@link #findFirstClickable}
+     */
+    protected void clickElement(WebElement element) {
+        try {
+            element.click();
+        } catch (ElementNotInteractableException e) {
+            // Covered or not interactable for WebDriver; retry with JavaScript click
+            PageHelpers.call(driver, "click", element);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to click element: " + e.getMessage(), e);
+        }
+    }
+    
     protected void sendKeys(By locator, String text) {
         try {
             WebElement element = findVisibleElement(locator);
@@ -77,23 +136,361 @@ public abstract class BasePage {
         return findElement(locator).getAttribute(attributeName);
     }
     
+    // Probes poll with an explicit wait, so the implicit wait is switched off to avoid stacking both
     protected boolean isElementDisplayed(By locator) {
+        return isDisplayedWithin(locator, false);
+    }
+    
+    /**
+     * Probe for an element that may legitimately be missing, e.g. an already dismissed cookie banner.
+     * Unlike {@link #isElementDisplayed}, a locator that keeps missing in this run is checked with the short
+     * absence timeout, so do not use it for elements a test step depends on.
+     */
+    protected boolean isElementPresentOptional(By locator) {
+        return isDisplayedWithin(locator, true);
+    }
+    
+    private boolean isDisplayedWithin(By locator, boolean optional) {
+        return withoutImplicitWait(() -> {
+            try {
+                WebElement element = timedUntil(locator, ElementState.PRESENT, PRESENCE_CHECK_TIMEOUT, optional,
+                    ExpectedConditions.presenceOfElementLocated(locator));
+                return element.isDisplayed();
+            } catch (TimeoutException | NoSuchElementException | StaleElementReferenceException e) {
+                return false;
+            }
+        });
+    }
+    
+    protected boolean isElementClickable(By locator) {
+        return withoutImplicitWait(() -> {
+            try {
+                timedUntil(locator, ElementState.CLICKABLE, Duration.ofSeconds(DEFAULT_TIMEOUT), false,
+                    ExpectedConditions.elementToBeClickable(locator));
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Runs a block with a different implicit wait and restores the previous value afterwards,
+     * also when the block throws. Nested scopes with the same value cost no extra driver calls.
+     * @param timeout Implicit wait to use inside the block
+     * @param block Code to run
+     * @return Result of the block
+     */
+    protected <T> T withImplicitWait(Duration timeout, Supplier<T> block) {
+        Duration previous = implicitWaits.get(driver);
+        if (previous == null) {
+            previous = driver.manage().timeouts().getImplicitWaitTimeout();
+            implicitWaits.put(driver, previous);
+        }
+        if (previous.equals(timeout)) {
+            return block.get();
+        }
+        
+        setImplicitWait(timeout);
         try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            WebElement element = shortWait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return element.isDisplayed();
-        } catch (TimeoutException | NoSuchElementException | StaleElementReferenceException e) {
-            return false;
+            return block.get();
+        } finally {
+            setImplicitWait(previous);
         }
     }
     
-    protected boolean isElementClickable(By locator) {
+    /**
+     * Runs a probe or fallback lookup that must not block on missing elements
+     */
+    protected <T> T withoutImplicitWait(Supplier<T> block) {
+        return withImplicitWait(Duration.ZERO, block);
+    }
+    
+    private void setImplicitWait(Duration timeout) {
+        driver.manage().timeouts().implicitlyWait(timeout);
+        implicitWaits.put(driver, timeout);
+    }
+    
+    /**
+     * Runs a wait and records the time-to-appear of the locator when it succeeds
+     */
+    private <T> T timedUntil(By locator, ElementState state, Wait<WebDriver> locatorWait, Function<WebDriver, T> condition) {
+        long start = System.currentTimeMillis();
+        T result = locatorWait.until(condition);
+        LocatorTimings.record(timingKey(locator, state), System.currentTimeMillis() - start);
+        return result;
+    }
+    
+    /**
+     * Runs a wait with the timeout learned for the locator and state, bounded by the cap. Successes are recorded;
+     * a timeout is fed back so a learned timeout that became too short backs off toward the cap, and an optional
+     * probe that keeps missing is checked with the short absence timeout.
+     */
+    private <T> T timedUntil(By locator, ElementState state, Duration cap, boolean optional, Function<WebDriver, T> condition) {
+        String timingKey = timingKey(locator, state);
+        Duration timeout = LocatorTimings.timeoutFor(timingKey, cap, optional);
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(locator));
-            return true;
+            return timedUntil(locator, state, waitFor(timeout), condition);
         } catch (TimeoutException e) {
+            LocatorTimings.recordTimeout(timingKey, timeout, cap, optional);
+            throw e;
+        }
+    }
+    
+    private String timingKey(Object locator, ElementState state) {
+        return getClass().getSimpleName() + " " + state + " " + locator;
+    }
+    
+    /**
+     * Tries the alternatives of a fallback chain: the declared primary first, then the fallback that matched last time.
+     * The matching locator is remembered in the {@link LocatorCache} across runs.
+     * @param logicalName Stable name of the element, e.g. "careers.locationsBlock"
+     * @param probe Check applied to each candidate; null, false or an empty collection means no match
+     * @param candidates Locator alternatives in their declared order
+     * @return Result of the first matching probe, or null if no candidate matched
+     */
+    protected <T> T findFirstAvailable(String logicalName, Function<By, T> probe, By... candidates) {
+        return withoutImplicitWait(() -> probeCandidates(logicalName, probe, candidates));
+    }
+    
+    private <T> T probeCandidates(String logicalName, Function<By, T> probe, By... candidates) {
+        List<By> ordered = LocatorCache.order(logicalName, candidates);
+        int attempts = 0;
+        for (By candidate : ordered) {
+            attempts++;
+            T result;
+            try {
+                result = probe.apply(candidate);
+            } catch (RuntimeException e) {
+                continue;
+            }
+            if (isMatch(result)) {
+                LocatorCache.recordMatch(logicalName, candidate, attempts);
+                return result;
+            }
+        }
+        LocatorCache.recordMiss(logicalName);
+        return null;
+    }
+    
+    /**
+     * @return The displayed element the race found in the fallback chain (not necessarily the first DOM match
+     *         of its locator, which may be a hidden copy), or null
+     */
+    protected WebElement findFirstDisplayed(String logicalName, By... candidates) {
+        LocatorMatch match = findFirstOf(logicalName, PRESENCE_CHECK_TIMEOUT, ElementState.VISIBLE, candidates);
+        return match == null ? null : match.getElement();
+    }
+    
+    /**
+     * Like {@link #findFirstDisplayed}, for a chain that may legitimately match nothing; a chain that keeps
+     * missing in this run is checked with the short absence timeout
+     */
+    protected WebElement findFirstDisplayedOptional(String logicalName, By... candidates) {
+        LocatorMatch match = findFirstOf(logicalName, PRESENCE_CHECK_TIMEOUT, ElementState.VISIBLE, true, candidates);
+        return match == null ? null : match.getElement();
+    }
+    
+    /**
+     * @return The clickable element the race found in the fallback chain; click it with {@link #clickElement(WebElement)}
+     *         rather than by locator, whose first DOM match may be a hidden copy. Null if none became clickable
+     */
+    protected WebElement findFirstClickable(String logicalName, By... candidates) {
+        LocatorMatch match = findFirstOf(logicalName, Duration.ofSeconds(DEFAULT_TIMEOUT), ElementState.CLICKABLE, candidates);
+        return match == null ? null : match.getElement();
+    }
+    
+    /**
+     * Races several locators: every poll evaluates all of them in a single script call and
+     * returns as soon as any one matches, so a fallback chain costs at most one timeout instead of one per locator.
+     * When several match in the same poll the earlier one wins; the primary always comes first and the
+     * {@link LocatorCache} moves the last winning fallback right behind it.
+     * Invalid selectors are skipped instead of failing the whole lookup.
+     * @param logicalName Stable name of the element, used for the locator cache and adaptive timeout
+     * @param timeout Upper bound for the wait; lowered to the learned timeout once enough samples exist
+     * @param state State the element must be in to count as a match
+     * @param locators CSS or XPath locators in order of preference
+     * @return The winning locator, its position in the given list and the element, or null on timeout
+     */
+    protected LocatorMatch findFirstOf(String logicalName, Duration timeout, ElementState state, By... locators) {
+        return findFirstOf(logicalName, timeout, state, false, locators);
+    }
+    
+    private LocatorMatch findFirstOf(String logicalName, Duration timeout, ElementState state, boolean optional, By... locators) {
+        List<By> ordered = LocatorCache.order(logicalName, locators);
+        List<List<String>> specs = toLocatorSpecs(ordered);
+        
+        String timingKey = timingKey(logicalName, state);
+        Duration learnedTimeout = LocatorTimings.timeoutFor(timingKey, timeout, optional);
+        long start = System.currentTimeMillis();
+        Map<?, ?> result;
+        try {
+            result = waitFor(learnedTimeout).until(webDriver ->
+                (Map<?, ?>) PageHelpers.call(webDriver, "findFirstOf", specs, state.name()));
+        } catch (TimeoutException e) {
+            LocatorTimings.recordTimeout(timingKey, learnedTimeout, timeout, optional);
+            LocatorCache.recordMiss(logicalName);
+            return null;
+        }
+        LocatorTimings.record(timingKey, System.currentTimeMillis() - start);
+        
+        int orderedIndex = ((Number) result.get("index")).intValue();
+        By winner = ordered.get(orderedIndex);
+        LocatorCache.recordMatch(logicalName, winner, orderedIndex + 1);
+        System.out.println("✓ '" + logicalName + "' matched " + winner + " after " + (System.currentTimeMillis() - start) + "ms");
+        return new LocatorMatch(winner, Arrays.asList(locators).indexOf(winner), (WebElement) result.get("element"));
+    }
+    
+    /**
+     * Evaluates presence, visibility and clickability of every manifest element in a single script call
+     * @param manifest Elements the page declares as required or optional
+     * @return Per-element result
+     */
+    protected PageManifest.Result checkManifest(PageManifest manifest) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (PageManifest.Entry entry : manifest.getEntries()) {
+            Map<String, Object> spec = new HashMap<>();
+            spec.put("specs", toLocatorSpecs(entry.getLocators()));
+            spec.put("state", entry.getState().name());
+            entries.add(spec);
+        }
+        
+        List<?> raw = (List<?>) PageHelpers.call(driver, "checkManifest", entries);
+        List<PageManifest.ElementResult> results = new ArrayList<>();
+        for (int i = 0; i < raw.size(); i++) {
+            PageManifest.Entry entry = manifest.getEntries().get(i);
+            Map<?, ?> element = (Map<?, ?>) raw.get(i);
+            int matched = ((Number) element.get("matched")).intValue();
+            results.add(new PageManifest.ElementResult(entry,
+                Boolean.TRUE.equals(element.get("present")),
+                Boolean.TRUE.equals(element.get("visible")),
+                Boolean.TRUE.equals(element.get("clickable")),
+                ((Number) element.get("count")).intValue(),
+                matched < 0 ? null : entry.getLocators().get(matched)));
+        }
+        return new PageManifest.Result(manifest.getPageName(), results);
+    }
+    
+    /**
+     * Re-checks the manifest (one script call per poll) until the page counts as ready
+     * @param manifest Elements the page declares
+     * @param timeout Maximum time to wait for readiness
+     * @param ready Readiness rule, e.g. {@link PageManifest.Result#allRequiredSatisfied()}
+     * @return The last result, ready or not
+     */
+    protected PageManifest.Result waitForManifest(PageManifest manifest, Duration timeout,
+                                                  Predicate<PageManifest.Result> ready) {
+        long start = System.currentTimeMillis();
+        PageManifest.Result[] last = new PageManifest.Result[1];
+        try {
+            waitFor(timeout).until(webDriver -> {
+                last[0] = checkManifest(manifest);
+                return ready.test(last[0]);
+            });
+        } catch (TimeoutException e) {
+            System.out.println("⚠️ " + manifest.getPageName() + " not ready within " + timeout.toMillis() + "ms");
+        }
+        if (last[0] == null) {
+            last[0] = checkManifest(manifest);
+        }
+        System.out.println("Manifest check for " + manifest.getPageName() + " took " + (System.currentTimeMillis() - start) + "ms");
+        return last[0];
+    }
+    
+    protected PageManifest.Result waitForManifest(PageManifest manifest) {
+        return waitForManifest(manifest, PRESENCE_CHECK_TIMEOUT, PageManifest.Result::allRequiredSatisfied);
+    }
+    
+    /**
+     * Reads the requested properties of many elements in a single script call
+     * instead of one driver request per getText/getAttribute/isDisplayed.
+     * Elements that went stale are skipped.
+     * @param elements Elements to read
+     * @param fields Properties to read
+     * @param attributeNames Attributes to read when {@link ElementSnapshot.Field#ATTRIBUTES} is requested
+     * @return One snapshot per readable element, in the order of the input list
+     */
+    protected List<ElementSnapshot> readElements(List<WebElement> elements, Set<ElementSnapshot.Field> fields,
+                                                 String... attributeNames) {
+        if (elements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<String> fieldNames = new ArrayList<>();
+        for (ElementSnapshot.Field field : fields) {
+            fieldNames.add(field.name());
+        }
+        List<String> attributes = Arrays.asList(attributeNames);
+        
+        try {
+            List<?> raw = (List<?>) PageHelpers.call(driver, "readElements", elements, fieldNames, attributes);
+            return toSnapshots(elements, raw);
+        } catch (StaleElementReferenceException e) {
+            // One stale element fails the whole batch - read the rest one by one
+            List<ElementSnapshot> snapshots = new ArrayList<>();
+            for (WebElement element : elements) {
+                try {
+                    List<WebElement> single = Collections.singletonList(element);
+                    snapshots.addAll(toSnapshots(single,
+                        (List<?>) PageHelpers.call(driver, "readElements", single, fieldNames, attributes)));
+                } catch (StaleElementReferenceException ignored) {
+                    // Skip elements that left the DOM
+                }
+            }
+            return snapshots;
+        }
+    }
+    
+    private List<ElementSnapshot> toSnapshots(List<WebElement> elements, List<?> raw) {
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < raw.size(); i++) {
+            Map<?, ?> values = (Map<?, ?>) raw.get(i);
+            
+            Map<String, String> attributes = new HashMap<>();
+            Object rawAttributes = values.get("attributes");
+            if (rawAttributes instanceof Map) {
+                for (Map.Entry<?, ?> attribute : ((Map<?, ?>) rawAttributes).entrySet()) {
+                    if (attribute.getValue() != null) {
+                        attributes.put(String.valueOf(attribute.getKey()), String.valueOf(attribute.getValue()));
+                    }
+                }
+            }
+            
+            Rectangle rect = null;
+            Object rawRect = values.get("rect");
+            if (rawRect instanceof Map) {
+                Map<?, ?> r = (Map<?, ?>) rawRect;
+                rect = new Rectangle(toInt(r.get("x")), toInt(r.get("y")), toInt(r.get("height")), toInt(r.get("width")));
+            }
+            
+            snapshots.add(new ElementSnapshot(elements.get(i),
+                values.get("text") == null ? "" : String.valueOf(values.get("text")),
+                attributes,
+                rect,
+                Boolean.TRUE.equals(values.get("displayed")),
+                Boolean.TRUE.equals(values.get("enabled"))));
+        }
+        return snapshots;
+    }
+    
+    private static int toInt(Object value) {
+        return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+    }
+    
+    private List<List<String>> toLocatorSpecs(List<By> locators) {
+        List<List<String>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            By.Remotable.Parameters parameters = toRemoteParameters(locator);
+            specs.add(Arrays.asList(cssOrXpath(parameters), String.valueOf(parameters.value())));
+        }
+        return specs;
+    }
+    
+    private static boolean isMatch(Object result) {
+        if (result == null || Boolean.FALSE.equals(result)) {
             return false;
         }
+        return !(result instanceof Collection) || !((Collection<?>) result).isEmpty();
     }
     
     protected void waitForElementToBeVisible(By locator) {
@@ -111,10 +508,8 @@ public abstract class BasePage {
     protected void scrollToElement(By locator) {
         try {
             WebElement element = findElement(locator);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-            Thread.sleep(500); // Brief pause after smooth scroll
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            PageHelpers.call(driver, "scrollIntoView", element);
+            waitForElementInViewport("Smooth scroll settled", 500, element);
         } catch (Exception e) {
             System.out.println("Warning: Could not scroll to element " + locator + ": " + e.getMessage());
         }
@@ -122,44 +517,257 @@ public abstract class BasePage {
     
     protected void scrollToElementByJS(WebElement element) {
         try {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-            Thread.sleep(500); // Brief pause after smooth scroll
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            PageHelpers.call(driver, "scrollIntoView", element);
+            waitForElementInViewport("Smooth scroll settled", 500, element);
         } catch (Exception e) {
             System.out.println("Warning: Could not scroll to element: " + e.getMessage());
         }
     }
     
     protected void scrollToTop() {
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
+        PageHelpers.call(driver, "scrollToTop");
     }
     
     protected void scrollToBottom() {
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
+        PageHelpers.call(driver, "scrollToBottom");
     }
     
+    // Callers wait for the specific element the hover reveals instead of a fixed pause
     protected void hoverOverElement(WebElement element) {
         try {
             Actions actions = new Actions(driver);
             actions.moveToElement(element).perform();
-            Thread.sleep(1000); // Wait for hover effects
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             System.out.println("Warning: Could not hover over element: " + e.getMessage());
         }
     }
     
+    /**
+     * Starts a navigation and returns at once; the future completes when the page's own readiness
+     * condition holds rather than when every third-party resource finished loading (see page.load.strategy).
+     * The driver belongs to the navigation until the future completes - the caller may do work that
+     * does not touch the driver (HTTP checks, data preparation) in the meantime.
+     * @param url Page to open
+     * @param description Readiness description used as the wait report key
+     * @param timeout Maximum time for the page to become ready
+     * @param ready Page-specific readiness condition, e.g. job items rendered in #jobs-list
+     * @return Future completing when the page is ready, exceptionally if it is not ready within the timeout
+     */
+    protected CompletableFuture<Void> navigateAsync(String url, String description, Duration timeout,
+                                                    Function<WebDriver, ?> ready) {
+        return CompletableFuture.runAsync(() -> {
+            // With the "none" strategy get() may return before the old document is replaced
+            List<WebElement> previousRoot = withoutImplicitWait(() -> driver.findElements(By.tagName("html")));
+            long start = System.currentTimeMillis();
+            driver.get(url);
+            
+            // Readiness probes must not block on the implicit wait while the element is still missing
+            boolean satisfied = withoutImplicitWait(() -> waitForCondition(description, 0, timeout, webDriver ->
+                (previousRoot.isEmpty() || ExpectedConditions.stalenessOf(previousRoot.get(0)).apply(webDriver))
+                    && isTruthy(ready.apply(webDriver))));
+            if (!satisfied) {
+                throw new RuntimeException("Page not ready within " + timeout.toMillis() + "ms: " + url);
+            }
+            System.out.println("✓ " + description + " after " + (System.currentTimeMillis() - start) + "ms: " + url);
+        }, NAVIGATION_EXECUTOR);
+    }
+    
+    /**
+     * Navigates and blocks until the page's readiness condition holds
+     * @see #navigateAsync(String, String, Duration, Function)
+     */
+    protected void navigateTo(String url, String description, Duration timeout, Function<WebDriver, ?> ready) {
+        awaitNavigation(navigateAsync(url, description, timeout, ready));
+    }
+    
+    /**
+     * Waits for a navigation future and rethrows its failure unwrapped
+     */
+    protected static <T> T awaitNavigation(CompletableFuture<T> navigation) {
+        try {
+            return navigation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+    
+    private static boolean isTruthy(Object value) {
+        return value != null && !Boolean.FALSE.equals(value);
+    }
+    
     protected void refreshPage() {
+        WebElement documentRoot = driver.findElement(By.tagName("html"));
+        driver.navigate().refresh();
+        waitForCondition("Page refreshed", 2000, Duration.ofSeconds(DEFAULT_TIMEOUT),
+            ExpectedConditions.and(
+                ExpectedConditions.stalenessOf(documentRoot),
+                webDriver -> !"loading".equals(PageHelpers.call(webDriver, "readyState"))
+            ));
+    }
+    
+    // ========== CONDITION-BASED WAITS ==========
+    
+    /**
+     * Waits until a condition holds instead of sleeping for a fixed delay.
+     * The time actually spent is recorded in the {@link WaitReport} against the fixed delay it replaces.
+     * @param description Short description of what is being waited for (used as report key)
+     * @param replacedDelayMillis The fixed sleep this wait replaces, for the time-saved report
+     * @param timeout Maximum time to wait for the condition
+     * @param condition Condition evaluated against the driver until it returns a non-null, non-false value
+     * @return true if the condition was met before the timeout
+     */
+    protected boolean waitForCondition(String description, long replacedDelayMillis, Duration timeout,
+                                       Function<WebDriver, ?> condition) {
+        long start = System.currentTimeMillis();
+        boolean satisfied;
+        try {
+            waitFor(timeout).until(condition);
+            satisfied = true;
+        } catch (TimeoutException e) {
+            satisfied = false;
+        }
+        
+        long elapsed = System.currentTimeMillis() - start;
+        WaitReport.record(description, replacedDelayMillis, elapsed, satisfied);
+        if (!satisfied) {
+            System.out.println("⚠️ Condition not met within " + timeout.toMillis() + "ms: " + description);
+        }
+        return satisfied;
+    }
+    
+    protected boolean waitForCondition(String description, long replacedDelayMillis, Function<WebDriver, ?> condition) {
+        return waitForCondition(description, replacedDelayMillis, Duration.ofSeconds(DEFAULT_TIMEOUT), condition);
+    }
+    
+    protected boolean waitForVisible(String description, long replacedDelayMillis, Duration timeout, By locator) {
+        return waitForCondition(description, replacedDelayMillis, timeout,
+            ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+    
+    protected boolean waitForInvisible(String description, long replacedDelayMillis, Duration timeout, By locator) {
+        return waitForCondition(description, replacedDelayMillis, timeout,
+            ExpectedConditions.invisibilityOfElementLocated(locator));
+    }
+    
+    protected boolean waitForInvisible(String description, long replacedDelayMillis, Duration timeout, WebElement element) {
+        return waitForCondition(description, replacedDelayMillis, timeout, ExpectedConditions.invisibilityOf(element));
+    }
+    
+    protected boolean waitForPresence(String description, long replacedDelayMillis, Duration timeout, By locator) {
+        return waitForCondition(description, replacedDelayMillis, timeout,
+            webDriver -> !webDriver.findElements(locator).isEmpty());
+    }
+    
+    protected boolean waitForNewWindowOrUrlChange(String description, long replacedDelayMillis, Duration timeout,
+                                                  int windowsBefore, String urlBefore) {
+        return waitForCondition(description, replacedDelayMillis, timeout,
+            webDriver -> BrowserContexts.windowHandles(webDriver).size() > windowsBefore
+                || !webDriver.getCurrentUrl().equals(urlBefore));
+    }
+    
+    /**
+     * Waits until the DOM inside a container stops changing.
+     * A MutationObserver is installed on the container and the wait resolves once no mutations
+     * happened for the quiet window, all within a single async-script round trip.
+     * @param description Short description used as the wait report key
+     * @param replacedDelayMillis The fixed settle delay this wait replaces, for the time-saved report
+     * @param container Locator of the element whose subtree is observed
+     * @param quietWindow How long the subtree must stay unchanged
+     * @param timeout Maximum time to wait for the subtree to settle
+     * @return true if the container went quiet before the timeout
+     */
+    protected boolean waitForDomQuiescence(String description, long replacedDelayMillis, By container,
+                                           Duration quietWindow, Duration timeout) {
+        return waitForDomQuiescence(description, replacedDelayMillis, container, quietWindow, quietWindow, timeout);
+    }
+    
+    /**
+     * Marks the current children of a container, so a following {@link #waitForDomQuiescence} also notices
+     * a re-render that already replaced them before its observer was installed. Call right before the
+     * action that triggers the re-render.
+     * @param container Locator of the element whose children are marked
+     */
+    protected void markDomBaseline(By container) {
+        try {
+            PageHelpers.call(driver, "markBaseline", toLocatorSpecs(Collections.singletonList(container)).get(0));
+        } catch (WebDriverException e) {
+            System.out.println("Warning: Could not mark DOM baseline for " + container + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Waits for a re-render of a container to start and then to settle. The quiet window only starts counting
+     * after the first mutation (or a replaced child marked by {@link #markDomBaseline(By)}), so a re-render that
+     * starts late is not mistaken for a settled old DOM.
+     * @param description Short description used as the wait report key
+     * @param replacedDelayMillis The fixed settle delay this wait replaces, for the time-saved report
+     * @param container Locator of the element whose subtree is observed
+     * @param quietWindow How long the subtree must stay unchanged once it started changing
+     * @param startTimeout How long to wait for the first change; without one the container counts as settled
+     * @param timeout Maximum time to wait for the subtree to settle
+     * @return true if the container went quiet (or never started changing) before the timeout
+     */
+    protected boolean waitForDomQuiescence(String description, long replacedDelayMillis, By container,
+                                           Duration quietWindow, Duration startTimeout, Duration timeout) {
+        // Keep the in-page deadline below the driver's script timeout so the script always resolves itself
+        long scriptTimeoutMillis = driver.manage().timeouts().getScriptTimeout().toMillis();
+        long timeoutMillis = Math.min(timeout.toMillis(), Math.max(scriptTimeoutMillis - 1000, quietWindow.toMillis()));
+        long startMillis = Math.min(startTimeout.toMillis(), timeoutMillis);
+        List<String> spec = toLocatorSpecs(Collections.singletonList(container)).get(0);
+        
+        long start = System.currentTimeMillis();
         try {
-            driver.navigate().refresh();
-            Thread.sleep(2000); // Wait for page refresh
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            Object result = PageHelpers.callAsync(driver, "waitForQuiescence", spec, quietWindow.toMillis(),
+                startMillis, timeoutMillis);
+            long elapsed = System.currentTimeMillis() - start;
+            
+            Map<?, ?> outcome = (Map<?, ?>) result;
+            boolean found = Boolean.TRUE.equals(outcome.get("found"));
+            boolean started = Boolean.TRUE.equals(outcome.get("started"));
+            boolean settled = Boolean.TRUE.equals(outcome.get("settled"));
+            WaitReport.record(description, replacedDelayMillis, elapsed, settled);
+            String state = !found ? "container not found"
+                : !settled ? "still changing"
+                : started ? "settled" : "no change started";
+            System.out.println("DOM quiescence on " + container + ": " + state
+                + " after " + elapsed + "ms (" + outcome.get("mutations") + " mutations)");
+            return settled;
+        } catch (WebDriverException e) {
+            WaitReport.record(description, replacedDelayMillis, System.currentTimeMillis() - start, false);
+            System.out.println("Warning: DOM quiescence wait failed for " + container + ": " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Resolves the W3C locator strategy of a By so it can be evaluated inside the page
+     */
+    protected By.Remotable.Parameters toRemoteParameters(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        return ((By.Remotable) locator).getRemoteParameters();
+    }
+    
+    private String cssOrXpath(By.Remotable.Parameters locator) {
+        switch (locator.using()) {
+            case "xpath":
+                return "xpath";
+            case "css selector":
+                return "css";
+            default:
+                throw new IllegalArgumentException("Locator strategy not supported in page scripts: " + locator.using());
         }
     }
     
+    protected boolean waitForElementInViewport(String description, long replacedDelayMillis, WebElement element) {
+        return waitForCondition(description, replacedDelayMillis, Duration.ofSeconds(3),
+            webDriver -> (Boolean) PageHelpers.call(webDriver, "isInViewport", element));
+    }
+    
     protected String getPageTitle() {
         return driver.getTitle();
     }
@@ -183,4 +791,28 @@ public abstract class BasePage {
     protected String getAlertText() {
         return wait.until(ExpectedConditions.alertIsPresent()).getText();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Result of {@link #findFirstOf}: which locator won and the element it found
+     */
+    public static class LocatorMatch {
+        private final By locator;
+        private final int index;
+        private final WebElement element;
+        
+        public LocatorMatch(By locator, int index, WebElement element) {
+            this.locator = locator;
+            this.index = index;
+            this.element = element;
+        }
+        
+        public By getLocator() { return locator; }
+        public int getIndex() { return index; }
+        public WebElement getElement() { return element; }
+        
+        @Override
+        public String toString() {
+            return "LocatorMatch{locator=" + locator + ", index=" + index + "}";
+        }
+    }
+}
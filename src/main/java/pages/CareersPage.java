@@ -2,6 +2,7 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import utils.TestUtils;
 
 public class CareersPage extends BasePage {
@@ -29,6 +30,74 @@ public class CareersPage extends BasePage {
     private final By jobListings = By.cssSelector(".job-list, .positions, .openings, [class*='job']");
     private final By benefitsSection = By.cssSelector(".benefits, .perks, [class*='benefit']");
     
+    // Fallback chains per section - visibility checks and scrolling share one chain (and cache entry) per block
+    private final By[] locationSelectors = {
+        locationsBlock,
+        alternativeLocationsBlock,
+        By.xpath("//h2[contains(text(), 'Location')] | //h3[contains(text(), 'Location')] | //*[contains(text(), 'Our Offices')]"),
+        By.cssSelector("h2, h3, [data-testid*='location'], [class*='location']"),
+        By.xpath("//*[contains(text(), 'Where we work') or contains(text(), 'Global') or contains(text(), 'Offices')]")
+    };
+    private final By[] teamSelectors = {
+        teamsBlock,
+        alternativeTeamsBlock,
+        By.xpath("//h2[contains(text(), 'Team')] | //h3[contains(text(), 'Team')] | //*[contains(text(), 'Departments')]"),
+        By.cssSelector("h2, h3, [data-testid*='team'], [class*='team']"),
+        By.xpath("//*[contains(text(), 'Join our team') or contains(text(), 'Our teams') or contains(text(), 'Departments')]")
+    };
+    private final By[] lifeSelectors = {
+        lifeAtInsiderBlock,
+        alternativeLifeBlock,
+        By.xpath("//h2[contains(text(), 'Life')] | //h3[contains(text(), 'Life')] | //*[contains(text(), 'Culture')]"),
+        By.cssSelector("h2, h3, [data-testid*='life'], [class*='life']"),
+        By.xpath("//*[contains(text(), 'Life at Insider') or contains(text(), 'Our culture') or contains(text(), 'Why work')]")
+    };
+    
+    // Fallback chains per section - links inside the block first, then the block itself
+    private final By[] clickableLocationSelectors = {
+        By.xpath("//a[contains(@href, 'location') or contains(text(), 'Location')]"),
+        By.xpath("//*[contains(@class, 'location')]//a | //*[contains(@class, 'location')][contains(@onclick, '')]"),
+        By.cssSelector(".locations-section a, [data-section='locations'] a"),
+        locationsBlock,
+        alternativeLocationsBlock
+    };
+    private final By[] clickableTeamSelectors = {
+        By.xpath("//a[contains(@href, 'team') or contains(text(), 'Team')]"),
+        By.xpath("//*[contains(@class, 'team')]//a | //*[contains(@class, 'team')][contains(@onclick, '')]"),
+        By.cssSelector(".teams-section a, [data-section='teams'] a"),
+        teamsBlock,
+        alternativeTeamsBlock
+    };
+    private final By[] clickableLifeSelectors = {
+        By.xpath("//a[contains(@href, 'life') or contains(@href, 'culture') or contains(text(), 'Life')]"),
+        By.xpath("//*[contains(@class, 'life')]//a | //*[contains(@class, 'culture')]//a"),
+        By.cssSelector(".life-section a, [data-section='life'] a"),
+        lifeAtInsiderBlock,
+        alternativeLifeBlock
+    };
+    
+    // Readiness manifests: every section is evaluated in a single script call
+    private final PageManifest sectionsManifest = new PageManifest("CareersPage sections")
+        .optional("locations", ElementState.VISIBLE, locationSelectors)
+        .optional("teams", ElementState.VISIBLE, teamSelectors)
+        .optional("life", ElementState.VISIBLE, lifeSelectors)
+        .optional("contentSections", ElementState.PRESENT, contentSections)
+        .optional("jobListings", ElementState.VISIBLE, jobListings);
+    
+    // Landing-page guard: only the section-specific blocks and headings, never the generic display fallbacks
+    // (h2/h3, any "Global" text), which any careers sub-page or job posting also satisfies
+    private final PageManifest landingManifest = new PageManifest("CareersPage landing sections")
+        .optional("locations", ElementState.VISIBLE, locationsBlock,
+            By.xpath("//h2[contains(text(), 'Our Offices')] | //h3[contains(text(), 'Our Offices')]"))
+        .optional("teams", ElementState.VISIBLE, teamsBlock)
+        .optional("life", ElementState.VISIBLE, lifeAtInsiderBlock,
+            By.xpath("//h2[contains(text(), 'Life at Insider')] | //h3[contains(text(), 'Life at Insider')]"));
+    
+    private final PageManifest clickableSectionsManifest = new PageManifest("CareersPage clickable sections")
+        .optional("locations", ElementState.CLICKABLE, clickableLocationSelectors)
+        .optional("teams", ElementState.CLICKABLE, clickableTeamSelectors)
+        .optional("life", ElementState.CLICKABLE, clickableLifeSelectors);
+    
     public CareersPage(WebDriver driver) {
         super(driver);
     }
@@ -38,7 +107,7 @@ public class CareersPage extends BasePage {
             // Check multiple indicators that careers page has loaded
             boolean titleLoaded = isElementDisplayed(pageTitle);
             boolean urlContainsCareers = getCurrentUrl().toLowerCase().contains("career");
-            boolean hasContentSections = findElements(contentSections).size() > 0;
+            boolean hasContentSections = hasGeneralContent();
             
             return titleLoaded || (urlContainsCareers && hasContentSections);
         } catch (Exception e) {
@@ -47,27 +116,33 @@ public class CareersPage extends BasePage {
         }
     }
     
+    /**
+     * @return true if the current page is the careers landing page itself, not one of its sub-pages or a job
+     *         posting: at least two of the Locations, Teams and Life at Insider blocks are visible
+     */
+    public boolean isCareersLandingPage() {
+        PageManifest.Result result = waitForManifest(landingManifest, PRESENCE_CHECK_TIMEOUT,
+            manifest -> landingSectionCount(manifest) >= 2);
+        return landingSectionCount(result) >= 2;
+    }
+    
+    private static int landingSectionCount(PageManifest.Result result) {
+        int count = 0;
+        for (String section : new String[] {"locations", "teams", "life"}) {
+            if (result.isSatisfied(section)) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
     public boolean isLocationsBlockDisplayed() {
         System.out.println("Checking for Locations block...");
         
-        // Try multiple approaches to find locations section
-        By[] locationSelectors = {
-            locationsBlock,
-            alternativeLocationsBlock,
-            By.xpath("//h2[contains(text(), 'Location')] | //h3[contains(text(), 'Location')] | //*[contains(text(), 'Our Offices')]"),
-            By.cssSelector("h2, h3, [data-testid*='location'], [class*='location']"),
-            By.xpath("//*[contains(text(), 'Where we work') or contains(text(), 'Global') or contains(text(), 'Offices')]")
-        };
-        
-        for (By selector : locationSelectors) {
-            try {
-                if (isElementDisplayed(selector)) {
-                    System.out.println("✓ Locations block found with selector: " + selector);
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // Try next selector
-            }
+        WebElement block = findFirstDisplayed("careers.locationsBlock", locationSelectors);
+        if (block != null) {
+            System.out.println("✓ Locations block found");
+            return true;
         }
         
         System.out.println("⚠ Locations block not found with any selector");
@@ -77,24 +152,10 @@ public class CareersPage extends BasePage {
     public boolean isTeamsBlockDisplayed() {
         System.out.println("Checking for Teams block...");
         
-        // Try multiple approaches to find teams section
-        By[] teamSelectors = {
-            teamsBlock,
-            alternativeTeamsBlock,
-            By.xpath("//h2[contains(text(), 'Team')] | //h3[contains(text(), 'Team')] | //*[contains(text(), 'Departments')]"),
-            By.cssSelector("h2, h3, [data-testid*='team'], [class*='team']"),
-            By.xpath("//*[contains(text(), 'Join our team') or contains(text(), 'Our teams') or contains(text(), 'Departments')]")
-        };
-        
-        for (By selector : teamSelectors) {
-            try {
-                if (isElementDisplayed(selector)) {
-                    System.out.println("✓ Teams block found with selector: " + selector);
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // Try next selector
-            }
+        WebElement block = findFirstDisplayed("careers.teamsBlock", teamSelectors);
+        if (block != null) {
+            System.out.println("✓ Teams block found");
+            return true;
         }
         
         System.out.println("⚠ Teams block not found with any selector");
@@ -104,24 +165,10 @@ public class CareersPage extends BasePage {
     public boolean isLifeAtInsiderBlockDisplayed() {
         System.out.println("Checking for Life at Insider block...");
         
-        // Try multiple approaches to find life/culture section
-        By[] lifeSelectors = {
-            lifeAtInsiderBlock,
-            alternativeLifeBlock,
-            By.xpath("//h2[contains(text(), 'Life')] | //h3[contains(text(), 'Life')] | //*[contains(text(), 'Culture')]"),
-            By.cssSelector("h2, h3, [data-testid*='life'], [class*='life']"),
-            By.xpath("//*[contains(text(), 'Life at Insider') or contains(text(), 'Our culture') or contains(text(), 'Why work')]")
-        };
-        
-        for (By selector : lifeSelectors) {
-            try {
-                if (isElementDisplayed(selector)) {
-                    System.out.println("✓ Life at Insider block found with selector: " + selector);
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // Try next selector
-            }
+        WebElement block = findFirstDisplayed("careers.lifeBlock", lifeSelectors);
+        if (block != null) {
+            System.out.println("✓ Life at Insider block found");
+            return true;
         }
         
         System.out.println("⚠ Life at Insider block not found with any selector");
@@ -129,13 +176,16 @@ public class CareersPage extends BasePage {
     }
     
     public boolean areAllMainSectionsVisible() {
-        boolean locations = isLocationsBlockDisplayed();
-        boolean teams = isTeamsBlockDisplayed();
-        boolean life = isLifeAtInsiderBlockDisplayed();
+        // One script call per poll for all sections; ready as soon as any section is visible
+        PageManifest.Result result = waitForManifest(landingManifest, PRESENCE_CHECK_TIMEOUT,
+            manifest -> manifest.getSatisfiedCount() >= 1);
+        boolean locations = result.isSatisfied("locations");
+        boolean teams = result.isSatisfied("teams");
+        boolean life = result.isSatisfied("life");
         
         // Also check for any general career-related content
-        boolean hasGeneralContent = findElements(contentSections).size() >= 3;
-        boolean hasJobListings = isElementDisplayed(jobListings);
+        boolean hasGeneralContent = result.get("contentSections").getCount() >= 3;
+        boolean hasJobListings = result.isSatisfied("jobListings");
         
         System.out.println("Section visibility summary:");
         System.out.println("  Locations: " + (locations ? "✓" : "✗"));
@@ -152,79 +202,42 @@ public class CareersPage extends BasePage {
     public boolean isLocationsBlockClickable() {
         System.out.println("Checking if Locations block is clickable...");
         
-        By[] clickableLocationSelectors = {
-            By.xpath("//a[contains(@href, 'location') or contains(text(), 'Location')]"),
-            By.xpath("//*[contains(@class, 'location')]//a | //*[contains(@class, 'location')][contains(@onclick, '')]"),
-            By.cssSelector(".locations-section a, [data-section='locations'] a")
-        };
-        
-        for (By selector : clickableLocationSelectors) {
-            try {
-                if (isElementClickable(selector)) {
-                    System.out.println("✓ Locations block is clickable");
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // Try next selector
-            }
+        WebElement clickable = findFirstClickable("careers.locationsClickable", clickableLocationSelectors);
+        if (clickable != null) {
+            System.out.println("✓ Locations block is clickable");
+            return true;
         }
-        
-        // Check if locations block itself is clickable
-        return isElementClickable(locationsBlock) || isElementClickable(alternativeLocationsBlock);
+        return false;
     }
     
     public boolean isTeamsBlockClickable() {
         System.out.println("Checking if Teams block is clickable...");
         
-        By[] clickableTeamSelectors = {
-            By.xpath("//a[contains(@href, 'team') or contains(text(), 'Team')]"),
-            By.xpath("//*[contains(@class, 'team')]//a | //*[contains(@class, 'team')][contains(@onclick, '')]"),
-            By.cssSelector(".teams-section a, [data-section='teams'] a")
-        };
-        
-        for (By selector : clickableTeamSelectors) {
-            try {
-                if (isElementClickable(selector)) {
-                    System.out.println("✓ Teams block is clickable");
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // Try next selector
-            }
+        WebElement clickable = findFirstClickable("careers.teamsClickable", clickableTeamSelectors);
+        if (clickable != null) {
+            System.out.println("✓ Teams block is clickable");
+            return true;
         }
-        
-        // Check if teams block itself is clickable
-        return isElementClickable(teamsBlock) || isElementClickable(alternativeTeamsBlock);
+        return false;
     }
     
     public boolean isLifeAtInsiderBlockClickable() {
         System.out.println("Checking if Life at Insider block is clickable...");
         
-        By[] clickableLifeSelectors = {
-            By.xpath("//a[contains(@href, 'life') or contains(@href, 'culture') or contains(text(), 'Life')]"),
-            By.xpath("//*[contains(@class, 'life')]//a | //*[contains(@class, 'culture')]//a"),
-            By.cssSelector(".life-section a, [data-section='life'] a")
-        };
-        
-        for (By selector : clickableLifeSelectors) {
-            try {
-                if (isElementClickable(selector)) {
-                    System.out.println("✓ Life at Insider block is clickable");
-                    return true;
-                }
-            } catch (Exception ignored) {
-                // Try next selector
-            }
+        WebElement clickable = findFirstClickable("careers.lifeClickable", clickableLifeSelectors);
+        if (clickable != null) {
+            System.out.println("✓ Life at Insider block is clickable");
+            return true;
         }
-        
-        // Check if life block itself is clickable
-        return isElementClickable(lifeAtInsiderBlock) || isElementClickable(alternativeLifeBlock);
+        return false;
     }
     
     public boolean areAllMainSectionsClickable() {
-        boolean locationsClickable = isLocationsBlockClickable();
-        boolean teamsClickable = isTeamsBlockClickable();
-        boolean lifeClickable = isLifeAtInsiderBlockClickable();
+        PageManifest.Result result = waitForManifest(clickableSectionsManifest, PRESENCE_CHECK_TIMEOUT,
+            manifest -> manifest.getSatisfiedCount() >= 1);
+        boolean locationsClickable = result.isSatisfied("locations");
+        boolean teamsClickable = result.isSatisfied("teams");
+        boolean lifeClickable = result.isSatisfied("life");
         
         System.out.println("Section clickability summary:");
         System.out.println("  Locations clickable: " + (locationsClickable ? "✓" : "✗"));
@@ -249,10 +262,9 @@ public class CareersPage extends BasePage {
     
     public void scrollToLocationsBlock() {
         try {
-            if (isElementDisplayed(locationsBlock)) {
-                scrollToElement(locationsBlock);
-            } else if (isElementDisplayed(alternativeLocationsBlock)) {
-                scrollToElement(alternativeLocationsBlock);
+            WebElement block = findFirstDisplayed("careers.locationsBlock", locationSelectors);
+            if (block != null) {
+                scrollToElementByJS(block);
             }
         } catch (Exception e) {
             System.out.println("Could not scroll to Locations block: " + e.getMessage());
@@ -261,10 +273,9 @@ public class CareersPage extends BasePage {
     
     public void scrollToTeamsBlock() {
         try {
-            if (isElementDisplayed(teamsBlock)) {
-                scrollToElement(teamsBlock);
-            } else if (isElementDisplayed(alternativeTeamsBlock)) {
-                scrollToElement(alternativeTeamsBlock);
+            WebElement block = findFirstDisplayed("careers.teamsBlock", teamSelectors);
+            if (block != null) {
+                scrollToElementByJS(block);
             }
         } catch (Exception e) {
             System.out.println("Could not scroll to Teams block: " + e.getMessage());
@@ -273,10 +284,9 @@ public class CareersPage extends BasePage {
     
     public void scrollToLifeAtInsiderBlock() {
         try {
-            if (isElementDisplayed(lifeAtInsiderBlock)) {
-                scrollToElement(lifeAtInsiderBlock);
-            } else if (isElementDisplayed(alternativeLifeBlock)) {
-                scrollToElement(alternativeLifeBlock);
+            WebElement block = findFirstDisplayed("careers.lifeBlock", lifeSelectors);
+            if (block != null) {
+                scrollToElementByJS(block);
             }
         } catch (Exception e) {
             System.out.println("Could not scroll to Life at Insider block: " + e.getMessage());
@@ -284,7 +294,7 @@ public class CareersPage extends BasePage {
     }
     
     public boolean hasGeneralContent() {
-        return findElements(contentSections).size() > 0;
+        return withoutImplicitWait(() -> findElements(contentSections).size() > 0);
     }
     
     public void scrollPageToBottom() {
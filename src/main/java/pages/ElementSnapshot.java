@@ -0,0 +1,64 @@
+package pages;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable values of one element read by {@link BasePage#readElements}.
+ * Fields that were not requested are empty (text), absent (attributes), null (rect) or false.
+ */
+public class ElementSnapshot {
+
+    /**
+     * Element properties that can be read in a batch
+     */
+    public enum Field {
+        TEXT,
+        ATTRIBUTES,
+        RECT,
+        DISPLAYED,
+        ENABLED
+    }
+
+    private final WebElement element;
+    private final String text;
+    private final Map<String, String> attributes;
+    private final Rectangle rect;
+    private final boolean displayed;
+    private final boolean enabled;
+
+    public ElementSnapshot(WebElement element, String text, Map<String, String> attributes,
+                           Rectangle rect, boolean displayed, boolean enabled) {
+        this.element = element;
+        this.text = text == null ? "" : text;
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.rect = rect;
+        this.displayed = displayed;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The live element, for the follow-up action (click, hover) once a snapshot was chosen
+     */
+    public WebElement getElement() { return element; }
+    public String getText() { return text; }
+    public Rectangle getRect() { return rect; }
+    public boolean isDisplayed() { return displayed; }
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * @return Attribute value as WebElement.getAttribute would report it, or null if absent or not requested
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ElementSnapshot{text='%s', attributes=%s, displayed=%s, enabled=%s}",
+            text, attributes, displayed, enabled);
+    }
+}
@@ -0,0 +1,10 @@
+package pages;
+
+/**
+ * State an element must reach to count as found
+ */
+public enum ElementState {
+    PRESENT,
+    VISIBLE,
+    CLICKABLE
+}
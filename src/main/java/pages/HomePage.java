@@ -2,7 +2,17 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.ConsentCookies;
+import utils.SiteMap;
 import utils.TestUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 
 public class HomePage extends BasePage {
     
@@ -11,9 +21,9 @@ public class HomePage extends BasePage {
     private final By navigationMenu = By.cssSelector(".navbar-nav, .main-menu, nav ul, nav");
     
     // Company menu and Careers link selectors for Scenario 2
-    private final By companyMenuItem = By.cssSelector("a[href*='about'], a[contains(text(),'Company')], button[contains(text(),'Company')]");
+    private final By companyMenuItem = By.xpath("//a[contains(@href, 'about')] | //a[contains(text(), 'Company')] | //button[contains(text(), 'Company')]");
     private final By companyDropdown = By.cssSelector(".dropdown-menu, .submenu, [data-dropdown='company']");
-    private final By careersMenuLink = By.cssSelector("a[href*='careers'], a[contains(text(),'Careers')], a[contains(text(),'Jobs')]");
+    private final By careersMenuLink = By.xpath("//a[contains(@href, 'careers') or contains(text(), 'Careers') or contains(text(), 'Jobs')]");
     private final By careersInDropdown = By.cssSelector(".dropdown-menu a[href*='careers'], .submenu a[href*='careers']");
     
     private final By acceptCookiesButton = By.cssSelector(".accept-all, [data-accept='all'], [class*='accept'], [id*='accept']");
@@ -24,18 +34,108 @@ public class HomePage extends BasePage {
     private final By alternativeInsiderLogo = By.xpath("//img[contains(@alt, 'Insider') or contains(@alt, 'insider')] | //a[@href='/']//img | //*[contains(@class, 'logo')]//img");
     private final By alternativeCareersLink = By.xpath("//a[contains(@href, 'careers') or contains(text(), 'Careers') or contains(text(), 'Jobs')] | //nav//a[contains(text(), 'Career')]");
     
+    // Navigation targets resolved into the site map from the links' real hrefs (menu links are in the DOM even when hidden).
+    // Locators are tried in priority order and only match the page itself, never its sub-pages or job links
+    private static final Map<String, List<By>> NAVIGATION_TARGETS = Map.of(
+        "careers", List.of(
+            By.cssSelector("nav a[href$='/careers/']"),
+            By.cssSelector("nav a[href$='/careers']"),
+            By.cssSelector("header a[href$='/careers/']"),
+            By.cssSelector("a[href$='/careers/']")));
+    
+    // Homepage readiness: the logo is required, navigation or main content must back it up
+    private final PageManifest homePageManifest = new PageManifest("HomePage")
+        .required("logo", ElementState.VISIBLE, insiderLogo, alternativeInsiderLogo)
+        .optional("navigation", ElementState.VISIBLE, navigationMenu)
+        .optional("content", ElementState.VISIBLE, homePageContent);
+    
     public HomePage(WebDriver driver) {
         super(driver);
     }
     
     public void navigateToHomePage() {
-        String baseUrl = TestUtils.getBaseUrl();
-        driver.get(baseUrl);
-        TestUtils.waitForPageLoad(driver);
-        handleCookieConsent();
+        awaitNavigation(navigateToHomePageAsync());
+    }
+    
+    /**
+     * Opens the homepage without blocking the caller
+     * @return Future completing once the logo is visible, the consent banner handled and the navigation targets resolved
+     */
+    public CompletableFuture<Void> navigateToHomePageAsync() {
+        return navigateAsync(TestUtils.getBaseUrl(), "Homepage ready", Duration.ofSeconds(30),
+                webDriver -> checkManifest(homePageManifest).allRequiredSatisfied())
+            .thenRun(() -> {
+                handleCookieConsent();
+                resolveNavigationTargets();
+            });
+    }
+    
+    /**
+     * Reads the hrefs of all navigation targets in one call and records them in the {@link SiteMap} as links;
+     * a URL a scenario already landed on is kept
+     */
+    private void resolveNavigationTargets() {
+        try {
+            List<String> targets = new ArrayList<>();
+            List<WebElement> links = new ArrayList<>();
+            withoutImplicitWait(() -> {
+                NAVIGATION_TARGETS.forEach((target, locators) -> {
+                    for (By locator : locators) {
+                        List<WebElement> found = findElements(locator);
+                        if (!found.isEmpty()) {
+                            targets.add(target);
+                            links.add(found.get(0));
+                            break;
+                        }
+                    }
+                });
+                return null;
+            });
+            
+            List<ElementSnapshot> snapshots = readElements(links, EnumSet.of(ElementSnapshot.Field.ATTRIBUTES), "href");
+            for (int i = 0; i < snapshots.size(); i++) {
+                SiteMap.recordLink(targets.get(links.indexOf(snapshots.get(i).getElement())), snapshots.get(i).getAttribute("href"));
+            }
+        } catch (Exception e) {
+            System.out.println("Warning: Could not resolve navigation targets: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Opens the careers page directly: the URL a scenario landed on or the site's link gives if known, else the configured one.
+     * For scenarios that only need to be on the careers page; the menu itself is tested by
+     * {@link #navigateToCareersThroughCompanyMenu()}.
+     */
+    public void navigateToCareers() {
+        String careersUrl = SiteMap.urlFor("careers", TestUtils.getCareersUrl());
+        try {
+            openCareersPage(careersUrl);
+        } catch (RuntimeException e) {
+            // A visited URL that no longer leads to the careers page must not be tried again in later runs
+            if (!SiteMap.forgetVisited("careers", careersUrl)) {
+                throw e;
+            }
+            String retryUrl = SiteMap.urlFor("careers", TestUtils.getCareersUrl());
+            System.out.println("⚠️ " + e.getMessage() + ", retrying with " + retryUrl);
+            openCareersPage(retryUrl);
+        }
+    }
+    
+    private void openCareersPage(String careersUrl) {
+        System.out.println("🚀 Opening careers page directly: " + careersUrl);
+        navigateTo(careersUrl, "Careers page ready", Duration.ofSeconds(30),
+            webDriver -> !webDriver.findElements(By.cssSelector("section, main")).isEmpty());
+        if (!getCurrentUrl().toLowerCase().contains("career")) {
+            throw new RuntimeException("Careers URL " + careersUrl + " led to " + getCurrentUrl());
+        }
     }
     
     private void handleCookieConsent() {
+        if (ConsentCookies.isConsentGiven(driver)) {
+            System.out.println("✓ Cookie consent already given");
+            return;
+        }
+        
         try {
             // Try multiple cookie accept selectors with user-provided XPath
             By[] cookieSelectors = {
@@ -47,21 +147,13 @@ public class HomePage extends BasePage {
                 acceptCookiesButton
             };
             
-            for (By selector : cookieSelectors) {
-                try {
-                    if (isElementDisplayed(selector)) {
-                        clickElement(selector);
-                        try { 
-                            Thread.sleep(1000); 
-                            System.out.println("✓ Cookie consent accepted successfully");
-                        } catch (InterruptedException e) { 
-                            Thread.currentThread().interrupt(); 
-                        }
-                        return;
-                    }
-                } catch (Exception ignored) {
-                    // Try next selector
-                }
+            WebElement acceptButton = findFirstDisplayedOptional("home.cookieAccept", cookieSelectors);
+            if (acceptButton != null) {
+                clickElement(acceptButton);
+                waitForInvisible("Cookie banner dismissed", 1000, Duration.ofSeconds(5), acceptButton);
+                ConsentCookies.capture(driver);
+                System.out.println("✓ Cookie consent accepted successfully");
+                return;
             }
             
             System.out.println("No cookie consent banner found or already handled");
@@ -73,12 +165,13 @@ public class HomePage extends BasePage {
     
     public boolean isHomePageLoaded() {
         try {
-            // Check multiple indicators that the homepage has loaded
-            boolean logoDisplayed = isElementDisplayed(insiderLogo) || isElementDisplayed(alternativeInsiderLogo);
-            boolean navigationDisplayed = isElementDisplayed(navigationMenu);
-            boolean contentDisplayed = isElementDisplayed(homePageContent);
+            // Check multiple indicators that the homepage has loaded, all in one script call per poll
+            PageManifest.Result result = waitForManifest(homePageManifest, PRESENCE_CHECK_TIMEOUT,
+                manifest -> manifest.allRequiredSatisfied()
+                    && (manifest.isSatisfied("navigation") || manifest.isSatisfied("content")));
+            result.printSummary();
             
-            return logoDisplayed && (navigationDisplayed || contentDisplayed);
+            return result.allRequiredSatisfied() && (result.isSatisfied("navigation") || result.isSatisfied("content"));
         } catch (Exception e) {
             System.out.println("Error checking if homepage is loaded: " + e.getMessage());
             return false;
@@ -86,7 +179,7 @@ public class HomePage extends BasePage {
     }
     
     public boolean isInsiderLogoDisplayed() {
-        return isElementDisplayed(insiderLogo) || isElementDisplayed(alternativeInsiderLogo);
+        return findFirstDisplayed("home.insiderLogo", insiderLogo, alternativeInsiderLogo) != null;
     }
     
     public boolean isNavigationMenuDisplayed() {
@@ -103,103 +196,131 @@ public class HomePage extends BasePage {
     
     public void clickCareersMenuItem() {
         try {
-            if (isElementClickable(careersMenuLink)) {
-                clickElement(careersMenuLink);
-            } else if (isElementClickable(alternativeCareersLink)) {
-                clickElement(alternativeCareersLink);
-            } else {
+            WebElement careersLink = findFirstClickable("home.careersLink", careersMenuLink, alternativeCareersLink);
+            if (careersLink == null) {
                 throw new RuntimeException("Careers menu item not found or not clickable");
             }
+            clickElement(careersLink);
             TestUtils.waitForPageLoad(driver);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to click careers menu item: " + e.getMessage());
+            throw new RuntimeException("Failed to click careers menu item: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Reaches the careers page the way a visitor does: Company menu first, then a direct navigation link,
+     * and only then the URL (resolved from the site map or configured). A strategy that fails falls through to the next.
+     */
     public void navigateToCareersThroughCompanyMenu() {
         System.out.println("Navigating to Careers page...");
         
+        if (tryNavigationStrategy("Strategy 1: Company menu", this::openCareersThroughCompanyMenu)
+                || tryNavigationStrategy("Strategy 2: Direct careers link", this::openCareersThroughDirectLink)) {
+            return;
+        }
+        
+        System.out.println("Strategy 3: Direct URL navigation...");
         try {
-            // Strategy 1: Try direct navigation to careers URL
-            System.out.println("Strategy 1: Direct URL navigation...");
-            String careersUrl = TestUtils.getCareersUrl();
-            driver.get(careersUrl);
-            TestUtils.waitForPageLoad(driver);
-            
-            // Check if we successfully landed on careers page
-            if (getCurrentUrl().toLowerCase().contains("career")) {
-                System.out.println("✓ Successfully navigated via direct URL");
-                return;
-            }
-            
-            // Strategy 2: Try to find direct careers link in main navigation
-            System.out.println("Strategy 2: Looking for direct careers link...");
-            By[] directCareersSelectors = {
-                By.xpath("//a[contains(@href, 'careers')]"),
-                By.xpath("//a[contains(text(), 'Career')]"),
-                By.cssSelector("nav a[href*='careers']"),
-                By.cssSelector("a[href*='careers']"),
-                careersMenuLink,
-                alternativeCareersLink
-            };
-            
-            for (By selector : directCareersSelectors) {
-                try {
-                    if (isElementClickable(selector)) {
-                        System.out.println("Found direct careers link, clicking...");
-                        clickElement(selector);
-                        TestUtils.waitForPageLoad(driver);
-                        return;
-                    }
-                } catch (Exception ignored) {
-                    // Try next selector
-                }
-            }
-            
-            // Strategy 3: Try Company menu if exists
-            System.out.println("Strategy 3: Looking for Company menu...");
-            By[] companySelectors = {
-                By.xpath("//nav//a[contains(text(), 'Company')]"),
-                By.xpath("//button[contains(text(), 'Company')]"),
-                companyMenuItem
-            };
-            
-            for (By selector : companySelectors) {
-                try {
-                    if (isElementClickable(selector)) {
-                        System.out.println("Found Company menu, clicking...");
-                        clickElement(selector);
-                        try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-                        
-                        // Look for Careers in any dropdown that might have appeared
-                        By[] careersInDropdownSelectors = {
-                            By.xpath("//a[contains(@href, 'careers')]"),
-                            By.xpath("//a[contains(text(), 'Career')]")
-                        };
-                        
-                        for (By careersSelector : careersInDropdownSelectors) {
-                            try {
-                                if (isElementClickable(careersSelector)) {
-                                    System.out.println("Found Careers in menu, clicking...");
-                                    clickElement(careersSelector);
-                                    TestUtils.waitForPageLoad(driver);
-                                    return;
-                                }
-                            } catch (Exception ignored) {
-                                // Try next selector
-                            }
-                        }
-                    }
-                } catch (Exception ignored) {
-                    // Try next selector
-                }
-            }
-            
-            System.out.println("✓ Navigation completed using available method");
-            
+            navigateToCareers();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to navigate to Careers page: " + e.getMessage(), e);
+        }
+        System.out.println("✓ Navigation completed using direct URL");
+    }
+    
+    private boolean tryNavigationStrategy(String name, BooleanSupplier strategy) {
+        System.out.println(name + "...");
+        try {
+            return strategy.getAsBoolean();
         } catch (Exception e) {
-            throw new RuntimeException("Failed to navigate to Careers page: " + e.getMessage());
+            System.out.println("⚠️ " + name + " failed, trying the next strategy: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Opens the Company menu by hover like on the live site and follows its Careers entry
+     */
+    private boolean openCareersThroughCompanyMenu() {
+        WebElement companyMenu = findFirstDisplayed("home.companyMenu",
+            By.xpath("//nav//a[contains(text(), 'Company')]"),
+            By.xpath("//button[contains(text(), 'Company')]"),
+            companyMenuItem);
+        if (companyMenu == null) {
+            System.out.println("Company menu not found");
+            return false;
+        }
+        
+        System.out.println("Found Company menu, hovering...");
+        hoverOverElement(companyMenu);
+        if (!waitForVisible("Company dropdown opened", 2000, Duration.ofSeconds(3), careersInDropdown)) {
+            // Touch-style menus only open on click; a real link would leave the page instead (e.g. the About fallback)
+            if (!isMenuToggle(companyMenu)) {
+                System.out.println("Company menu did not open on hover and is a link, not clicking it");
+                return false;
+            }
+            clickElement(companyMenu);
+            waitForVisible("Company dropdown opened", 2000, Duration.ofSeconds(3), careersInDropdown);
+        }
+        
+        WebElement careersInMenu = findFirstClickable("home.careersInCompanyMenu", careersInDropdown, careersMenuLink);
+        return careersInMenu != null && openCareersLink(careersInMenu, "Company menu");
+    }
+    
+    private boolean openCareersThroughDirectLink() {
+        // Links to the careers page itself come first; the looser ones can also match sub-pages and job links
+        List<By> candidates = new ArrayList<>(NAVIGATION_TARGETS.get("careers"));
+        candidates.add(By.xpath("//a[contains(@href, 'careers')]"));
+        candidates.add(By.xpath("//a[contains(text(), 'Career')]"));
+        candidates.add(By.cssSelector("nav a[href*='careers']"));
+        candidates.add(By.cssSelector("a[href*='careers']"));
+        candidates.add(careersMenuLink);
+        candidates.add(alternativeCareersLink);
+        
+        WebElement directCareersLink = findFirstClickable("home.directCareersLink", candidates.toArray(new By[0]));
+        return directCareersLink != null && openCareersLink(directCareersLink, "direct link");
+    }
+    
+    /**
+     * @return true if clicking the element opens a menu instead of navigating: a button, or an anchor without a real href
+     */
+    private boolean isMenuToggle(WebElement element) {
+        if (!"a".equalsIgnoreCase(element.getTagName())) {
+            return true;
+        }
+        String href = element.getAttribute("href");
+        if (href == null || href.isEmpty() || href.startsWith("javascript:")) {
+            return true;
+        }
+        // Resolved hrefs of "#" links point back at the current page
+        int fragment = href.indexOf('#');
+        return fragment >= 0 && href.substring(0, fragment).equals(stripFragment(getCurrentUrl()));
+    }
+    
+    private static String stripFragment(String url) {
+        int fragment = url.indexOf('#');
+        return fragment < 0 ? url : url.substring(0, fragment);
+    }
+    
+    private boolean openCareersLink(WebElement link, String source) {
+        System.out.println("Found Careers in " + source + ", clicking...");
+        clickElement(link);
+        TestUtils.waitForPageLoad(driver);
+        
+        String landedUrl = getCurrentUrl();
+        if (!landedUrl.toLowerCase().contains("career")) {
+            System.out.println("⚠️ Careers link from " + source + " led to " + landedUrl);
+            return false;
+        }
+        // Only the careers page itself goes into the site map, never a sub-page a looser link led to
+        String landedPage = SiteMap.pageUrl(landedUrl);
+        if (SiteMap.matchesLink("careers", landedPage) || new CareersPage(driver).isCareersLandingPage()) {
+            SiteMap.recordVisited("careers", landedPage);
+        } else {
+            System.out.println("⚠️ " + landedPage + " is not the careers landing page, keeping it out of the site map");
         }
+        System.out.println("✓ Successfully navigated via " + source);
+        return true;
     }
     
     public void clickCompanyMenuItem() {
@@ -211,7 +332,7 @@ public class HomePage extends BasePage {
                 throw new RuntimeException("Company menu item not found or not clickable");
             }
         } catch (Exception e) {
-            throw new RuntimeException("Failed to click company menu item: " + e.getMessage());
+            throw new RuntimeException("Failed to click company menu item: " + e.getMessage(), e);
         }
     }
     
@@ -0,0 +1,209 @@
+package pages;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable copy of the job listing page source.
+ * The page is captured with a single getPageSource() call and parsed in-process with jsoup,
+ * using the same selectors as QAJobsPage, so job details can be extracted and validated
+ * on any thread - or from a stored file - without a browser.
+ */
+public class JobListingSnapshot {
+    // The URL is stored URL-encoded, so a quote or "-->" in it cannot end the attribute or the comment
+    private static final Pattern METADATA = Pattern.compile("^<!-- job-listing-snapshot url=\"([^\"]*)\" captured=\"([^\"]*)\" -->\\R");
+
+    private final String html;
+    private final String sourceUrl;
+    private final Instant capturedAt;
+
+    public JobListingSnapshot(String html, String sourceUrl, Instant capturedAt) {
+        this.html = html;
+        this.sourceUrl = sourceUrl;
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * Captures the current page source. This is the only WebDriver call of the snapshot workflow.
+     * @param driver Driver showing the (filtered) job listing page
+     * @return Snapshot of the page
+     */
+    public static JobListingSnapshot capture(WebDriver driver) {
+        long start = System.currentTimeMillis();
+        JobListingSnapshot snapshot = new JobListingSnapshot(driver.getPageSource(), driver.getCurrentUrl(), Instant.now());
+        System.out.println("📸 Job listing snapshot captured in " + (System.currentTimeMillis() - start) + "ms ("
+            + snapshot.html.length() + " chars)");
+        return snapshot;
+    }
+
+    /**
+     * Loads a snapshot previously written with {@link #save(Path)}
+     * @param file Snapshot file
+     * @return Snapshot with the stored URL and capture time, if present
+     */
+    public static JobListingSnapshot load(Path file) throws IOException {
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Matcher matcher = METADATA.matcher(content);
+        if (matcher.find()) {
+            String url = URLDecoder.decode(matcher.group(1), StandardCharsets.UTF_8);
+            return new JobListingSnapshot(content.substring(matcher.end()), url, Instant.parse(matcher.group(2)));
+        }
+        return new JobListingSnapshot(content, "", Files.getLastModifiedTime(file).toInstant());
+    }
+
+    /**
+     * Writes the snapshot with its URL (URL-encoded) and capture time in a leading HTML comment
+     * @param file Target file, parent directories are created when missing
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        String url = URLEncoder.encode(sourceUrl, StandardCharsets.UTF_8);
+        String metadata = "<!-- job-listing-snapshot url=\"" + url + "\" captured=\"" + capturedAt + "\" -->\n";
+        Files.write(file, (metadata + html).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Extracts job details from the snapshot with the same selectors and fallbacks as the live page.
+     * Like the in-page extraction script, every card is completed with the filtered defaults and kept if valid,
+     * including cards without text. The returned JobDetails have no WebElement attached.
+     * @return List of JobDetails, empty if no job cards were found
+     */
+    public List<QAJobsPage.JobDetails> extractJobDetails() {
+        long start = System.currentTimeMillis();
+        Document document = Jsoup.parse(html, sourceUrl);
+
+        Elements cards = document.selectXpath(QAJobsPage.JOB_ITEMS_XPATH);
+        if (cards.isEmpty()) {
+            cards = document.selectXpath(QAJobsPage.ALTERNATIVE_JOB_ITEMS_XPATH);
+        }
+
+        List<QAJobsPage.JobDetails> jobDetailsList = new ArrayList<>();
+        for (Element card : cards) {
+            List<String> textLines = ownTextLines(card);
+            String fullText = String.join("\n", textLines);
+
+            String position = firstText(card, QAJobsPage.JOB_TITLE_CSS);
+            String department = firstText(card, QAJobsPage.JOB_DEPARTMENT_CSS);
+            String location = firstText(card, QAJobsPage.JOB_LOCATION_CSS);
+            if (location.isEmpty()) {
+                location = QAJobsPage.resolveLocation(locationCandidates(card), textCandidates(card), fullText);
+            }
+
+            QAJobsPage.JobDetails jobDetails = QAJobsPage.completeJobDetails(position, department, location, null);
+            if (jobDetails.isValid()) {
+                jobDetailsList.add(jobDetails);
+            }
+        }
+
+        System.out.println("✓ Parsed " + jobDetailsList.size() + " jobs from snapshot in "
+            + (System.currentTimeMillis() - start) + "ms");
+        return jobDetailsList;
+    }
+
+    /**
+     * Validates every job in the snapshot against the expected filters
+     */
+    public QAJobsPage.ValidationSummary validateAllJobs(String expectedLocation, String expectedDepartment) {
+        return QAJobsPage.validateAllJobs(extractJobDetails(), expectedLocation, expectedDepartment);
+    }
+
+    public String getHtml() {
+        return html;
+    }
+
+    public String getSourceUrl() {
+        return sourceUrl;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    private static String firstText(Element card, String css) {
+        for (Element match : descendants(card, css)) {
+            String text = match.text().trim();
+            if (!text.isEmpty() && !text.equals("Apply Now")) {
+                return text;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Texts of the location fallback matches, selector by selector like the element path
+     */
+    private static List<String> locationCandidates(Element card) {
+        List<String> candidates = new ArrayList<>();
+        for (String css : QAJobsPage.LOCATION_FALLBACK_SELECTORS) {
+            candidates.addAll(texts(descendants(card, css)));
+        }
+        return candidates;
+    }
+
+    /**
+     * Text of every descendant that directly contains text, like the live extraction script
+     */
+    private static List<String> textCandidates(Element card) {
+        List<String> candidates = new ArrayList<>();
+        for (Element element : card.select("*")) {
+            if (element != card && element.hasText() && !element.ownText().trim().isEmpty()) {
+                candidates.add(element.text().trim());
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Approximates innerText: one line per element with its own text
+     */
+    private static List<String> ownTextLines(Element card) {
+        List<String> lines = new ArrayList<>();
+        for (Element element : card.select("*")) {
+            String ownText = element.ownText().trim();
+            if (!ownText.isEmpty()) {
+                lines.add(ownText);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Matches below the card, like querySelectorAll in the page; jsoup's select also tests the card itself,
+     * which the alternative card XPath (any class containing "position") can match, e.g. div.position-location
+     */
+    private static Elements descendants(Element card, String css) {
+        // Filtered into a new list; Elements.remove() would detach elements from the parsed document
+        Elements matches = new Elements();
+        for (Element match : card.select(css)) {
+            if (match != card) {
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    private static List<String> texts(Elements elements) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : elements) {
+            texts.add(element.text().trim());
+        }
+        return texts;
+    }
+}
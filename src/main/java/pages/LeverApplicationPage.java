@@ -3,7 +3,9 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.BrowserContexts;
 import utils.TestUtils;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
@@ -33,6 +35,14 @@ public class LeverApplicationPage extends BasePage {
     private final By leverBranding = By.cssSelector(".lever-branding, .powered-by-lever, [class*='lever']");
     private final By applyButton = By.cssSelector(".apply-btn, .application-button, button[class*='apply'], a[class*='apply']");
     
+    // Lever layouts differ, so every form element is optional and any one of them is enough
+    private final PageManifest applicationFormManifest = new PageManifest("LeverApplicationPage")
+        .optional("Job title", ElementState.VISIBLE, jobTitle)
+        .optional("Application form", ElementState.VISIBLE, applicationForm)
+        .optional("Name field", ElementState.VISIBLE, nameField)
+        .optional("Email field", ElementState.VISIBLE, emailField)
+        .optional("Apply/Submit button", ElementState.VISIBLE, applyButton, submitButton);
+    
     public LeverApplicationPage(WebDriver driver) {
         super(driver);
     }
@@ -74,6 +84,16 @@ public class LeverApplicationPage extends BasePage {
         }
     }
     
+    private boolean matchesLeverDomain(String url) {
+        String lowerUrl = url.toLowerCase();
+        for (String pattern : LEVER_DOMAIN_PATTERNS) {
+            if (lowerUrl.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Verifies that redirect to Lever application was successful
      * @return true if successfully redirected to application page
@@ -85,12 +105,9 @@ public class LeverApplicationPage extends BasePage {
             // Wait for page to load after redirect
             TestUtils.waitForPageLoad(driver);
             
-            // Allow extra time for external redirect
-            try {
-                Thread.sleep(3000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            // Wait for the external redirect to land on a Lever URL
+            waitForCondition("Redirected to Lever URL", 3000, Duration.ofSeconds(10),
+                webDriver -> matchesLeverDomain(webDriver.getCurrentUrl()));
             
             // Check URL validation
             boolean urlValid = isLeverApplicationPage();
@@ -149,53 +166,15 @@ public class LeverApplicationPage extends BasePage {
     public boolean areApplicationFormElementsPresent() {
         System.out.println("Checking for application form elements...");
         
-        int elementsFound = 0;
-        int totalChecks = 0;
-        
-        // Check for job title
-        totalChecks++;
-        if (isElementDisplayed(jobTitle)) {
-            elementsFound++;
-            System.out.println("✓ Job title element found");
-        } else {
-            System.out.println("✗ Job title element not found");
+        PageManifest.Result result = waitForManifest(applicationFormManifest, PRESENCE_CHECK_TIMEOUT,
+            manifest -> manifest.getSatisfiedCount() >= 1);
+        for (PageManifest.ElementResult element : result.getElements()) {
+            System.out.println((element.isSatisfied() ? "✓ " : "✗ ") + element.getName()
+                + (element.isSatisfied() ? " found" : " not found"));
         }
         
-        // Check for application form
-        totalChecks++;
-        if (isElementDisplayed(applicationForm)) {
-            elementsFound++;
-            System.out.println("✓ Application form found");
-        } else {
-            System.out.println("✗ Application form not found");
-        }
-        
-        // Check for name field
-        totalChecks++;
-        if (isElementDisplayed(nameField)) {
-            elementsFound++;
-            System.out.println("✓ Name field found");
-        } else {
-            System.out.println("✗ Name field not found");
-        }
-        
-        // Check for email field  
-        totalChecks++;
-        if (isElementDisplayed(emailField)) {
-            elementsFound++;
-            System.out.println("✓ Email field found");
-        } else {
-            System.out.println("✗ Email field not found");
-        }
-        
-        // Check for apply button
-        totalChecks++;
-        if (isElementDisplayed(applyButton) || isElementDisplayed(submitButton)) {
-            elementsFound++;
-            System.out.println("✓ Apply/Submit button found");
-        } else {
-            System.out.println("✗ Apply/Submit button not found");
-        }
+        int elementsFound = result.getSatisfiedCount();
+        int totalChecks = result.getElements().size();
         
         // Calculate success rate
         double successRate = (elementsFound * 100.0) / totalChecks;
@@ -257,13 +236,10 @@ public class LeverApplicationPage extends BasePage {
             System.out.println("Handling new tab scenario...");
             
             // Wait for new tab to open
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            waitForCondition("Application tab opened", 2000, Duration.ofSeconds(5),
+                webDriver -> BrowserContexts.windowHandles(webDriver).stream().anyMatch(handle -> !handle.equals(originalWindow)));
             
-            Set<String> allWindows = driver.getWindowHandles();
+            Set<String> allWindows = BrowserContexts.windowHandles(driver);
             System.out.println("Total windows/tabs: " + allWindows.size());
             
             if (allWindows.size() > 1) {
@@ -294,7 +270,7 @@ public class LeverApplicationPage extends BasePage {
      */
     public void closeAdditionalTabsAndReturnToOriginal(String originalWindow) {
         try {
-            Set<String> allWindows = driver.getWindowHandles();
+            Set<String> allWindows = BrowserContexts.windowHandles(driver);
             
             // Close all windows except the original
             for (String window : allWindows) {
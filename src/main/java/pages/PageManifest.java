@@ -0,0 +1,159 @@
+package pages;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declares the elements a page is expected to show, so {@link BasePage#checkManifest(PageManifest)}
+ * can verify all of them in a single browser round trip instead of one wait per element.
+ */
+public class PageManifest {
+    private final String pageName;
+    private final List<Entry> entries = new ArrayList<>();
+
+    public PageManifest(String pageName) {
+        this.pageName = pageName;
+    }
+
+    /**
+     * Adds an element the page cannot be considered ready without
+     * @param name Name used in results and logs
+     * @param state State the element must reach
+     * @param locators Alternatives, any one of them satisfies the entry
+     */
+    public PageManifest required(String name, ElementState state, By... locators) {
+        entries.add(new Entry(name, true, state, Arrays.asList(locators)));
+        return this;
+    }
+
+    /**
+     * Adds an element that is reported but does not block readiness
+     */
+    public PageManifest optional(String name, ElementState state, By... locators) {
+        entries.add(new Entry(name, false, state, Arrays.asList(locators)));
+        return this;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public static class Entry {
+        private final String name;
+        private final boolean required;
+        private final ElementState state;
+        private final List<By> locators;
+
+        Entry(String name, boolean required, ElementState state, List<By> locators) {
+            this.name = name;
+            this.required = required;
+            this.state = state;
+            this.locators = locators;
+        }
+
+        public String getName() { return name; }
+        public boolean isRequired() { return required; }
+        public ElementState getState() { return state; }
+        public List<By> getLocators() { return locators; }
+    }
+
+    /**
+     * Observed state of one manifest element
+     */
+    public static class ElementResult {
+        private final Entry entry;
+        private final boolean present;
+        private final boolean visible;
+        private final boolean clickable;
+        private final int count;
+        private final By matchedLocator;
+
+        public ElementResult(Entry entry, boolean present, boolean visible, boolean clickable, int count, By matchedLocator) {
+            this.entry = entry;
+            this.present = present;
+            this.visible = visible;
+            this.clickable = clickable;
+            this.count = count;
+            this.matchedLocator = matchedLocator;
+        }
+
+        public String getName() { return entry.getName(); }
+        public boolean isRequired() { return entry.isRequired(); }
+        public boolean isPresent() { return present; }
+        public boolean isVisible() { return visible; }
+        public boolean isClickable() { return clickable; }
+        public int getCount() { return count; }
+        public By getMatchedLocator() { return matchedLocator; }
+
+        /**
+         * @return true if the element reached the state declared in the manifest
+         */
+        public boolean isSatisfied() {
+            return matchedLocator != null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s: %s (present=%s, visible=%s, clickable=%s, matches=%d)",
+                getName(), isRequired() ? "" : " (optional)", isSatisfied() ? "✓" : "✗",
+                present, visible, clickable, count);
+        }
+    }
+
+    /**
+     * Result of a manifest check, one entry per declared element in declaration order
+     */
+    public static class Result {
+        private final String pageName;
+        private final List<ElementResult> elements;
+
+        public Result(String pageName, List<ElementResult> elements) {
+            this.pageName = pageName;
+            this.elements = Collections.unmodifiableList(elements);
+        }
+
+        public List<ElementResult> getElements() {
+            return elements;
+        }
+
+        /**
+         * @return The result for the named element
+         * @throws IllegalArgumentException if the manifest has no such element
+         */
+        public ElementResult get(String name) {
+            for (ElementResult element : elements) {
+                if (element.getName().equals(name)) {
+                    return element;
+                }
+            }
+            throw new IllegalArgumentException("Element not declared in " + pageName + " manifest: " + name);
+        }
+
+        public boolean isSatisfied(String name) {
+            return get(name).isSatisfied();
+        }
+
+        public boolean allRequiredSatisfied() {
+            return elements.stream().filter(ElementResult::isRequired).allMatch(ElementResult::isSatisfied);
+        }
+
+        public int getSatisfiedCount() {
+            return (int) elements.stream().filter(ElementResult::isSatisfied).count();
+        }
+
+        public void printSummary() {
+            System.out.println(pageName + " manifest: " + getSatisfiedCount() + "/" + elements.size() + " elements satisfied");
+            for (ElementResult element : elements) {
+                System.out.println("  " + element);
+            }
+        }
+    }
+}
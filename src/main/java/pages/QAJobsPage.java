@@ -1,12 +1,27 @@
 package pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
+import utils.BrowserContexts;
+import utils.ConsentCookies;
+import utils.PageHelpers;
+import utils.SiteMap;
 import utils.TestUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class QAJobsPage extends BasePage {
     
@@ -42,6 +57,39 @@ public class QAJobsPage extends BasePage {
     
     // QA Careers page URL
     private static final String QA_CAREERS_URL = "https://useinsider.com/careers/quality-assurance/";
+    // Site map targets of the pages this page object opens directly
+    private static final String QA_CAREERS_TARGET = "qa-careers";
+    private static final String OPEN_POSITIONS_TARGET = "open-positions";
+    
+    // Job details extraction: "script" reads every job card in one page helper call, "element" queries each card,
+    // "snapshot" captures the page source once and parses it in-process (see JobListingSnapshot)
+    private static final String JOB_EXTRACTION_MODE =
+        TestUtils.getProperty("job.extraction.mode", "script").toLowerCase();
+    
+    // Same selectors as the location fallbacks in extractLocationFromJobElement, in the same priority order;
+    // queried one by one, since a selector list would return its matches in document order
+    static final List<String> LOCATION_FALLBACK_SELECTORS = List.of(
+        "span[class*='location']", "div[class*='location']", "p[class*='location']", "[data-qa*='location']",
+        "[title*='location']", "[class*='location']");
+    
+    // Quiet window after which the jobs list is considered fully re-rendered
+    private static final Duration JOBS_LIST_QUIET_WINDOW =
+        Duration.ofMillis(TestUtils.getIntProperty("dom.quiet.window.ms", 300));
+    // How long a filter change may take to start re-rendering the jobs list
+    private static final Duration FILTER_RERENDER_START = Duration.ofSeconds(5);
+    
+    private static final String LOCATION_SELECT_ID = "filter-by-location";
+    private static final String DEPARTMENT_SELECT_ID = "filter-by-department";
+    // Spellings used interchangeably by the site and the tests, applied per word after normalization
+    private static final Map<String, String> FILTER_ALIASES = Map.of(
+        "turkiye", "turkey",
+        "qa", "quality assurance");
+    
+    // Fields read in one batch per candidate list instead of one driver call per property
+    private static final Set<ElementSnapshot.Field> TEXT_AND_CLASS =
+        EnumSet.of(ElementSnapshot.Field.TEXT, ElementSnapshot.Field.ATTRIBUTES);
+    private static final Set<ElementSnapshot.Field> BUTTON_FIELDS = EnumSet.of(ElementSnapshot.Field.TEXT,
+        ElementSnapshot.Field.ATTRIBUTES, ElementSnapshot.Field.DISPLAYED, ElementSnapshot.Field.ENABLED);
     
     // Optimized selectors for QA Jobs page elements - Updated with exact XPaths
     private final By seeAllQAJobsButton = By.xpath("//a[normalize-space()='See all QA jobs']");
@@ -49,8 +97,10 @@ public class QAJobsPage extends BasePage {
     
     // Job listing page selectors after clicking "See all QA jobs" - Updated with exact XPaths
     private final By jobListingsContainer = By.xpath("//div[@id='jobs-list']");
-    private final By jobItems = By.xpath("//div[@id='jobs-list']//div[contains(@class, 'position-list-item')]");
-    private final By alternativeJobItems = By.xpath("//div[@id='jobs-list']//*[contains(@class, 'job') or contains(@class, 'position')]");
+    static final String JOB_ITEMS_XPATH = "//div[@id='jobs-list']//div[contains(@class, 'position-list-item')]";
+    static final String ALTERNATIVE_JOB_ITEMS_XPATH = "//div[@id='jobs-list']//*[contains(@class, 'job') or contains(@class, 'position')]";
+    private final By jobItems = By.xpath(JOB_ITEMS_XPATH);
+    private final By alternativeJobItems = By.xpath(ALTERNATIVE_JOB_ITEMS_XPATH);
     
     // Filter selectors - Location dropdown - Updated with exact XPaths
     private final By locationFilterDropdown = By.xpath("//span[@id='select2-filter-by-location-container']");
@@ -78,56 +128,59 @@ public class QAJobsPage extends BasePage {
     private final By jobLocations = By.cssSelector(".job-location, .location, [data-qa='job-location']");
     private final By jobDepartments = By.cssSelector(".job-department, .department, [data-qa='job-department']");
     
-    // Enhanced selectors for individual job detail extraction
-    private final By individualJobTitles = By.cssSelector("h3, h4, .job-title, .position-title, [data-qa='job-title']");
-    private final By individualJobLocations = By.cssSelector(".job-location, .location, [data-qa='job-location'], span[class*='location']");
-    private final By individualJobDepartments = By.cssSelector(".job-department, .department, [data-qa='job-department'], span[class*='department']");
+    // Enhanced selectors for individual job detail extraction (shared with JobListingSnapshot)
+    static final String JOB_TITLE_CSS = "h3, h4, .job-title, .position-title, [data-qa='job-title']";
+    static final String JOB_LOCATION_CSS = ".job-location, .location, [data-qa='job-location'], span[class*='location']";
+    static final String JOB_DEPARTMENT_CSS = ".job-department, .department, [data-qa='job-department'], span[class*='department']";
+    private final By individualJobTitles = By.cssSelector(JOB_TITLE_CSS);
+    private final By individualJobLocations = By.cssSelector(JOB_LOCATION_CSS);
+    private final By individualJobDepartments = By.cssSelector(JOB_DEPARTMENT_CSS);
     
     public QAJobsPage(WebDriver driver) {
         super(driver);
     }
     
+    /**
+     * Opens the QA careers page directly: the URL a scenario landed on before if known, else the configured one
+     */
     public void navigateToQACareersPage() {
-        System.out.println("Navigating to QA Careers page...");
-        driver.get(QA_CAREERS_URL);
-        TestUtils.waitForPageLoad(driver);
+        String qaCareersUrl = SiteMap.urlFor(QA_CAREERS_TARGET, TestUtils.getProperty("qa.careers.url", QA_CAREERS_URL));
+        System.out.println("Navigating to QA Careers page: " + qaCareersUrl);
+        // Ready once the page's main call-to-action is rendered, not when every tracking pixel has loaded
+        navigateTo(qaCareersUrl, "QA careers page content rendered", Duration.ofSeconds(30),
+            webDriver -> !webDriver.findElements(seeAllQAJobsButton).isEmpty()
+                || !webDriver.findElements(alternativeSeeAllJobsButton).isEmpty());
+        if (getCurrentUrl().toLowerCase().contains("quality-assurance")) {
+            SiteMap.recordVisited(QA_CAREERS_TARGET, SiteMap.pageUrl(getCurrentUrl()));
+        }
         
-        // Handle cookie consent banner first
+        // Handle cookie consent banner
         acceptCookies();
         
-        // Wait for page to fully load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         System.out.println("Successfully navigated to: " + getCurrentUrl());
     }
     
     private void acceptCookies() {
         System.out.println("Checking for cookie consent banner...");
+        if (ConsentCookies.isConsentGiven(driver)) {
+            System.out.println("✓ Cookie consent already given");
+            return;
+        }
+        
         try {
-            // Wait a moment for banner to appear
-            Thread.sleep(1000);
-            
-            if (isElementClickable(acceptAllCookiesButton)) {
+            // Optional probe: the banner is often gone already, clickElement then waits for it to become clickable
+            if (isElementPresentOptional(acceptAllCookiesButton)) {
                 System.out.println("Cookie consent banner found, accepting all cookies...");
                 clickElement(acceptAllCookiesButton);
                 
                 // Wait for banner to disappear
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                waitForInvisible("Cookie banner dismissed", 1000, Duration.ofSeconds(5), acceptAllCookiesButton);
+                ConsentCookies.capture(driver);
                 
                 System.out.println("✓ All cookies accepted successfully");
             } else {
                 System.out.println("No cookie consent banner found or already accepted");
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             System.out.println("Could not handle cookie consent: " + e.getMessage());
             // Don't throw exception - continue with test
@@ -165,52 +218,137 @@ public class QAJobsPage extends BasePage {
                 alternativeSeeAllJobsButton
             };
             
-            for (By selector : seeAllJobSelectors) {
-                try {
-                    if (isElementClickable(selector)) {
-                        System.out.println("Found 'See all QA jobs' button, clicking...");
-                        clickElement(selector);
-                        TestUtils.waitForPageLoad(driver);
-                        waitForJobsPageToLoad();
-                        return;
-                    }
-                } catch (Exception ignored) {
-                    // Try next selector
-                }
+            WebElement seeAllJobsButton = findFirstClickable("qa.seeAllJobsButton", seeAllJobSelectors);
+            if (seeAllJobsButton != null) {
+                System.out.println("Found 'See all QA jobs' button, clicking...");
+                clickElement(seeAllJobsButton);
+                TestUtils.waitForPageLoad(driver);
+                waitForJobsPageToLoad();
+                recordOpenPositionsVisited();
+                return;
             }
             
             // Strategy 2: If direct button not found, try navigating directly to jobs page
             System.out.println("Direct button not found, trying direct navigation...");
-            String jobsUrl = QA_CAREERS_URL.replace("/quality-assurance/", "/open-positions/?department=quality-assurance");
+            String jobsUrl = filteredJobsUrl("Quality Assurance");
             driver.get(jobsUrl);
             TestUtils.waitForPageLoad(driver);
             waitForJobsPageToLoad();
+            recordOpenPositionsVisited();
             
         } catch (Exception e) {
-            throw new RuntimeException("Failed to navigate to QA jobs listing: " + e.getMessage());
+            throw new RuntimeException("Failed to navigate to QA jobs listing: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * @param department Department filter, e.g. "Quality Assurance"
+     * @return Open-positions URL filtered by the department; the site's department slug is the option text
+     *         without spaces, e.g. "qualityassurance"
+     */
+    private static String filteredJobsUrl(String department) {
+        return SiteMap.urlFor(OPEN_POSITIONS_TARGET, TestUtils.getOpenPositionsUrl()) + "?department="
+            + normalizeFilterValue(department).replace(" ", "");
+    }
+    
+    /**
+     * Records the jobs list the browser landed on, without its filter parameters, as the open-positions page
+     */
+    private void recordOpenPositionsVisited() {
+        String landedUrl = getCurrentUrl();
+        if (landedUrl.toLowerCase().contains("open-positions")) {
+            SiteMap.recordVisited(OPEN_POSITIONS_TARGET, SiteMap.pageUrl(landedUrl));
+        }
+    }
+    
+    /**
+     * Opens the open-positions list already filtered, skipping the QA careers page, the "See all QA jobs" click
+     * and the dropdowns. The department is passed as URL parameter (the same one the "See all QA jobs" link uses);
+     * any filter the URL did not apply is set on the underlying select before the list is used.
+     * Scenario 3 tests the filter UI itself through {@link #applyLocationFilter} and {@link #applyDepartmentFilter}.
+     * @param location Location filter, e.g. "Istanbul, Turkey"
+     * @param department Department filter, e.g. "Quality Assurance"
+     * @throws RuntimeException if the filters shown by the page do not match the request
+     */
+    public void openFilteredJobs(String location, String department) {
+        awaitNavigation(openFilteredJobsAsync(location, department));
+    }
+    
+    /**
+     * Non-blocking variant of {@link #openFilteredJobs(String, String)}; the driver must not be used
+     * until the future completes
+     * @return Future completing once the filtered list is rendered and verified
+     */
+    public CompletableFuture<Void> openFilteredJobsAsync(String location, String department) {
+        String jobsUrl = filteredJobsUrl(department);
+        System.out.println("🚀 Opening filtered jobs list: " + jobsUrl);
+        
+        return navigateAsync(jobsUrl, "Jobs list populated", Duration.ofSeconds(30),
+                webDriver -> !webDriver.findElements(jobItems).isEmpty() || !webDriver.findElements(alternativeJobItems).isEmpty())
+            .thenRun(() -> {
+                acceptCookies();
+                waitForJobListToSettle();
+                
+                // No-ops for filters the URL already applied
+                selectFilterOption(DEPARTMENT_SELECT_ID, department);
+                selectFilterOption(LOCATION_SELECT_ID, location);
+                
+                if (!areFiltersApplied(location, department)) {
+                    throw new RuntimeException("Filtered jobs list did not apply location '" + location
+                        + "' and department '" + department + "' (URL: " + getCurrentUrl() + ")");
+                }
+                recordOpenPositionsVisited();
+                System.out.println("✓ Filtered jobs list opened");
+            });
+    }
+    
+    /**
+     * Reads the selected location and department options and compares them with the requested filters
+     * @param location Expected location filter
+     * @param department Expected department filter
+     * @return true if both selects show the requested values
+     */
+    public boolean areFiltersApplied(String location, String department) {
+        boolean locationApplied = isFilterSelected(LOCATION_SELECT_ID, location);
+        boolean departmentApplied = isFilterSelected(DEPARTMENT_SELECT_ID, department);
+        
+        System.out.println("Applied filter check:");
+        System.out.println("  Location '" + location + "': " + (locationApplied ? "✓" : "✗"));
+        System.out.println("  Department '" + department + "': " + (departmentApplied ? "✓" : "✗"));
+        
+        return locationApplied && departmentApplied;
+    }
+    
+    private boolean isFilterSelected(String selectId, String requested) {
+        List<?> options = (List<?>) PageHelpers.call(driver, "readSelectOptions", selectId);
+        if (options == null) {
+            return false;
+        }
+        for (Object item : options) {
+            Map<?, ?> option = (Map<?, ?>) item;
+            if (Boolean.TRUE.equals(option.get("selected"))) {
+                return matchFilterOption(List.of(option), requested) != null;
+            }
+        }
+        return false;
+    }
+    
     private void waitForJobsPageToLoad() {
         System.out.println("Waiting for jobs page to load...");
         
-        // Wait for loading spinner to disappear
-        try {
-            waitForElementToDisappear(loadingSpinner, 10);
-        } catch (Exception ignored) {
-            // Spinner might not be present
-        }
+        // Wait for the jobs list re-render to finish instead of polling a spinner
+        waitForJobListToSettle();
         
-        // Wait for job content to appear
-        try {
-            Thread.sleep(3000); // Give time for dynamic content
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Make sure job content actually appeared (returns immediately when it already has)
+        waitForJobListToRender("Jobs list rendered", 0);
         
         System.out.println("Jobs page loaded successfully");
     }
     
+    /**
+     * Applies the location filter through the Select2 dropdown UI: opens it and clicks the option.
+     * This is the filter UI test of Scenario 3; {@link #openFilteredJobs(String, String)} sets filters directly.
+     */
     public void applyLocationFilter(String location) {
         System.out.println("Applying location filter: " + location);
         
@@ -221,42 +359,21 @@ public class QAJobsPage extends BasePage {
                 clickElement(locationFilterDropdown);
                 
                 // Wait for dropdown options to appear
-                try {
-                    Thread.sleep(1500);
-                    System.out.println("Waiting for location dropdown options to load...");
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                
-                // Look for exact "Istanbul, Turkiye" option (as it appears on the website)
-                By istanbulTurkiyeOption = By.xpath("//li[normalize-space(text())='Istanbul, Turkiye']");
-                if (isElementClickable(istanbulTurkiyeOption)) {
-                    System.out.println("Found exact 'Istanbul, Turkiye' option, clicking...");
-                    clickElement(istanbulTurkiyeOption);
-                    return;
-                }
-                
-                // Alternative 1: Look for "Istanbul, Turkey" (English version)
-                By istanbulTurkeyOption = By.xpath("//li[normalize-space(text())='Istanbul, Turkey']");
-                if (isElementClickable(istanbulTurkeyOption)) {
-                    System.out.println("Found 'Istanbul, Turkey' option, clicking...");
-                    clickElement(istanbulTurkeyOption);
-                    return;
-                }
+                System.out.println("Waiting for location dropdown options to load...");
+                waitForVisible("Location dropdown opened", 1500, Duration.ofSeconds(5), locationDropdownOptions);
                 
-                // Alternative 2: Look for just "Istanbul" option
-                By exactIstanbulOption = By.xpath("//li[normalize-space(text())='Istanbul']");
-                if (isElementClickable(exactIstanbulOption)) {
-                    System.out.println("Found exact 'Istanbul' option, clicking...");
-                    clickElement(exactIstanbulOption);
-                    return;
-                }
-                
-                // Alternative 3: Look for any Istanbul option (contains)
-                By anyIstanbulOption = By.xpath("//li[contains(text(), 'Istanbul')]");
-                if (isElementClickable(anyIstanbulOption)) {
-                    System.out.println("Found Istanbul option (contains), clicking...");
-                    clickElement(anyIstanbulOption);
+                // Exact "Istanbul, Turkiye" (as it appears on the website), then the English and looser variants;
+                // the variant that matched last run is tried first
+                WebElement istanbulOption = findFirstClickable("jobs.locationOption.istanbul",
+                    By.xpath("//li[normalize-space(text())='Istanbul, Turkiye']"),
+                    By.xpath("//li[normalize-space(text())='Istanbul, Turkey']"),
+                    By.xpath("//li[normalize-space(text())='Istanbul']"),
+                    By.xpath("//li[contains(text(), 'Istanbul')]"));
+                if (istanbulOption != null) {
+                    System.out.println("Found Istanbul option '" + istanbulOption.getText() + "', clicking...");
+                    markDomBaseline(jobListingsContainer);
+                    clickElement(istanbulOption);
+                    waitForJobListToRerender();
                     return;
                 }
             }
@@ -269,6 +386,9 @@ public class QAJobsPage extends BasePage {
         }
     }
     
+    /**
+     * Applies the department filter through the Select2 dropdown UI, see {@link #applyLocationFilter(String)}
+     */
     public void applyDepartmentFilter(String department) {
         System.out.println("Applying department filter: " + department);
         
@@ -279,17 +399,15 @@ public class QAJobsPage extends BasePage {
                 clickElement(departmentFilterDropdown);
                 
                 // Wait for dropdown options to appear
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                waitForVisible("Department dropdown opened", 1000, Duration.ofSeconds(5), departmentDropdownOptions);
                 
                 // Look for Quality Assurance option in the opened dropdown
                 By qualityAssuranceOption = By.xpath("//li[contains(text(), 'Quality Assurance')]");
                 if (isElementClickable(qualityAssuranceOption)) {
                     System.out.println("Found 'Quality Assurance' option, clicking...");
+                    markDomBaseline(jobListingsContainer);
                     clickElement(qualityAssuranceOption);
+                    waitForJobListToRerender();
                     return;
                 }
                 
@@ -297,7 +415,9 @@ public class QAJobsPage extends BasePage {
                 By qaOption = By.xpath("//li[contains(text(), 'QA') or contains(text(), 'Quality')]");
                 if (isElementClickable(qaOption)) {
                     System.out.println("Found QA/Quality option, clicking...");
+                    markDomBaseline(jobListingsContainer);
                     clickElement(qaOption);
+                    waitForJobListToRerender();
                     return;
                 }
             }
@@ -310,6 +430,96 @@ public class QAJobsPage extends BasePage {
         }
     }
     
+    /**
+     * Selects a filter value on the select element behind a Select2 dropdown without opening it:
+     * all options are read in one call, matched to the requested value and set together with a change event
+     * @param selectId Id of the underlying select element
+     * @param requested Requested option text, e.g. "Istanbul, Turkey" (matches "Istanbul, Turkiye")
+     * @return true if the option was selected and the jobs list re-rendered
+     */
+    private boolean selectFilterOption(String selectId, String requested) {
+        List<?> options;
+        try {
+            // Options are filled in after the jobs load; a lone "All" option means they are not there yet
+            options = waitFor(Duration.ofSeconds(10)).until(webDriver -> {
+                List<?> current = (List<?>) PageHelpers.call(webDriver, "readSelectOptions", selectId);
+                return current != null && current.size() > 1 ? current : null;
+            });
+        } catch (TimeoutException e) {
+            System.out.println("⚠️ Options of #" + selectId + " not loaded");
+            return false;
+        }
+        
+        Map<?, ?> option = matchFilterOption(options, requested);
+        if (option == null) {
+            System.out.println("⚠️ No option of #" + selectId + " matches '" + requested + "'");
+            for (Object available : options) {
+                System.out.println("  Option: '" + ((Map<?, ?>) available).get("text") + "'");
+            }
+            return false;
+        }
+        
+        if (Boolean.TRUE.equals(option.get("selected"))) {
+            System.out.println("✓ '" + option.get("text") + "' already selected in #" + selectId);
+            return true;
+        }
+        
+        markDomBaseline(jobListingsContainer);
+        if (!Boolean.TRUE.equals(PageHelpers.call(driver, "selectOption", selectId, String.valueOf(option.get("value"))))) {
+            System.out.println("⚠️ Could not set #" + selectId);
+            return false;
+        }
+        
+        System.out.println("✓ Selected '" + option.get("text") + "' in #" + selectId);
+        waitForJobListToRerender();
+        waitForJobListToRender("Filtered jobs rendered", 0);
+        return true;
+    }
+    
+    /**
+     * @return The option whose normalized text equals the requested value, else the first option
+     *         whose text contains it or is contained in it as whole words, else null
+     */
+    private static Map<?, ?> matchFilterOption(List<?> options, String requested) {
+        String wanted = normalizeFilterValue(requested);
+        Map<?, ?> partial = null;
+        for (Object item : options) {
+            Map<?, ?> option = (Map<?, ?>) item;
+            String text = normalizeFilterValue(String.valueOf(option.get("text")));
+            if (text.equals(wanted)) {
+                return option;
+            }
+            if (partial == null && !text.isEmpty()
+                    && ((" " + text + " ").contains(" " + wanted + " ") || (" " + wanted + " ").contains(" " + text + " "))) {
+                partial = option;
+            }
+        }
+        return partial;
+    }
+    
+    /**
+     * Lower-cases, strips diacritics and punctuation and applies {@link #FILTER_ALIASES},
+     * so "İstanbul, Türkiye" and "Istanbul, Turkey" both become "istanbul turkey"
+     */
+    private static String normalizeFilterValue(String value) {
+        String plain = Normalizer.normalize(value, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .replace('\u0131', 'i')
+            .toLowerCase(Locale.ROOT);
+        
+        StringBuilder normalized = new StringBuilder();
+        for (String word : plain.split("[^a-z0-9]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(FILTER_ALIASES.getOrDefault(word, word));
+        }
+        return normalized.toString();
+    }
+    
     public void applyFilters() {
         System.out.println("Applying filters...");
         
@@ -321,7 +531,7 @@ public class QAJobsPage extends BasePage {
             }
             
             // Wait for results to load
-            Thread.sleep(2000);
+            waitForJobListToRender("Filtered jobs rendered", 2000);
             
         } catch (Exception e) {
             System.out.println("Could not find apply filters button: " + e.getMessage());
@@ -334,12 +544,13 @@ public class QAJobsPage extends BasePage {
             // Check for job listings container
             boolean containerExists = isElementDisplayed(jobListingsContainer);
             
-            // Check for individual job items
-            boolean jobItemsExist = findElements(jobItems).size() > 0 || 
-                                   findElements(alternativeJobItems).size() > 0;
+            // Check for individual job items (probes must not block on the implicit wait)
+            boolean jobItemsExist = withoutImplicitWait(() -> findElements(jobItems).size() > 0 ||
+                                   findElements(alternativeJobItems).size() > 0);
             
             // Check for any content that looks like jobs
-            boolean hasJobContent = findElements(By.cssSelector("*[class*='job'], *[class*='position'], *[class*='role']")).size() > 0;
+            boolean hasJobContent = withoutImplicitWait(() ->
+                findElements(By.cssSelector("*[class*='job'], *[class*='position'], *[class*='role']")).size() > 0);
             
             System.out.println("Job list presence check:");
             System.out.println("  Container exists: " + (containerExists ? "✓" : "✗"));
@@ -357,13 +568,11 @@ public class QAJobsPage extends BasePage {
     public boolean isJobsListNotEmpty() {
         try {
             // Count job items using multiple strategies
-            int jobCount = Math.max(
-                findElements(jobItems).size(),
-                findElements(alternativeJobItems).size()
-            );
+            int jobCount = getJobsCount();
             
             // Also check for any job-like elements
-            int jobLikeElements = findElements(By.cssSelector("*[class*='job'], *[class*='position']")).size();
+            int jobLikeElements = withoutImplicitWait(() ->
+                findElements(By.cssSelector("*[class*='job'], *[class*='position']")).size());
             
             System.out.println("Job count: " + Math.max(jobCount, jobLikeElements));
             
@@ -377,10 +586,9 @@ public class QAJobsPage extends BasePage {
     
     public int getJobsCount() {
         try {
-            int primaryCount = findElements(jobItems).size();
-            int alternativeCount = findElements(alternativeJobItems).size();
-            
-            return Math.max(primaryCount, alternativeCount);
+            return withoutImplicitWait(() -> Math.max(
+                findElements(jobItems).size(),
+                findElements(alternativeJobItems).size()));
             
         } catch (Exception e) {
             System.out.println("Error getting jobs count: " + e.getMessage());
@@ -404,10 +612,10 @@ public class QAJobsPage extends BasePage {
     public boolean areJobsFilteredCorrectly(String expectedLocation, String expectedDepartment) {
         try {
             // This is a basic check - in real implementation, you'd check actual job details
-            List<WebElement> jobs = findElements(jobItems);
-            if (jobs.isEmpty()) {
-                jobs = findElements(alternativeJobItems);
-            }
+            List<WebElement> jobs = withoutImplicitWait(() -> {
+                List<WebElement> primary = findElements(jobItems);
+                return primary.isEmpty() ? findElements(alternativeJobItems) : primary;
+            });
             
             System.out.println("Found " + jobs.size() + " job(s) after filtering");
             
@@ -420,27 +628,49 @@ public class QAJobsPage extends BasePage {
         }
     }
     
-    private void waitForElementToDisappear(By locator, int timeoutSeconds) {
-        try {
-            long endTime = System.currentTimeMillis() + (timeoutSeconds * 1000L);
-            while (System.currentTimeMillis() < endTime) {
-                if (!isElementDisplayed(locator)) {
-                    return;
-                }
-                Thread.sleep(500);
-            }
-        } catch (Exception e) {
-            // Element might not have been present to begin with
-        }
+    /**
+     * Waits until the #jobs-list subtree has stopped re-rendering for the configured quiet window
+     */
+    private void waitForJobListToSettle() {
+        waitForDomQuiescence("Jobs list re-render settled", 3000, jobListingsContainer,
+            JOBS_LIST_QUIET_WINDOW, Duration.ofSeconds(10));
+    }
+    
+    /**
+     * Waits for the re-render triggered by a filter change: first for it to start (the old items are
+     * replaced or the list mutates), then for the quiet window. Call {@link #markDomBaseline(By)} before the change.
+     */
+    private void waitForJobListToRerender() {
+        waitForDomQuiescence("Jobs list re-render after filter change", 3000, jobListingsContainer,
+            JOBS_LIST_QUIET_WINDOW, FILTER_RERENDER_START, Duration.ofSeconds(15));
+    }
+    
+    /**
+     * Waits until the jobs list contains at least one job item
+     * @param description Description used in the wait report
+     * @param replacedDelayMillis Fixed delay that this wait replaces
+     * @return true if job items were rendered before the timeout
+     */
+    private boolean waitForJobListToRender(String description, long replacedDelayMillis) {
+        return waitForCondition(description, replacedDelayMillis, Duration.ofSeconds(10),
+            webDriver -> !webDriver.findElements(jobItems).isEmpty() || !webDriver.findElements(alternativeJobItems).isEmpty());
+    }
+    
+    /**
+     * Waits for the filtered jobs list to be rendered before interacting with it
+     */
+    public void waitForJobsToRender() {
+        waitForJobListToRender("Jobs list rendered", 5000);
     }
     
     private void debugDropdownOptions() {
         try {
             System.out.println("=== DEBUG: Available dropdown options ===");
             List<WebElement> allOptions = findElements(By.xpath("//li[contains(@class, 'select2-results__option')]"));
-            for (int i = 0; i < Math.min(allOptions.size(), 10); i++) {
-                WebElement option = allOptions.get(i);
-                String optionText = option.getText().trim();
+            List<ElementSnapshot> options = readElements(allOptions.subList(0, Math.min(allOptions.size(), 10)),
+                EnumSet.of(ElementSnapshot.Field.TEXT));
+            for (int i = 0; i < options.size(); i++) {
+                String optionText = options.get(i).getText();
                 if (!optionText.isEmpty()) {
                     System.out.println("  Option " + (i+1) + ": '" + optionText + "'");
                 }
@@ -473,6 +703,18 @@ public class QAJobsPage extends BasePage {
             // Scroll to ensure jobs are loaded
             scrollToJobsContainer();
             
+            if ("snapshot".equals(JOB_EXTRACTION_MODE)) {
+                return captureJobListingSnapshot().extractJobDetails();
+            }
+            
+            if ("script".equals(JOB_EXTRACTION_MODE)) {
+                List<JobDetails> scripted = extractAllJobDetailsInOneCall();
+                if (!scripted.isEmpty()) {
+                    return scripted;
+                }
+                System.out.println("Bulk extraction found no job cards, falling back to element-by-element extraction");
+            }
+            
             // Get ONLY the filtered job elements (Quality Assurance + Istanbul)
             List<WebElement> jobs = findFilteredJobElements();
             
@@ -480,8 +722,10 @@ public class QAJobsPage extends BasePage {
             
             for (int i = 0; i < jobs.size(); i++) {
                 WebElement jobElement = jobs.get(i);
+                int jobIndex = i + 1;
                 try {
-                    JobDetails jobDetails = extractJobDetailsFromElement(jobElement, i + 1);
+                    // Missing optional fields are common, so the per-field lookups must not wait implicitly
+                    JobDetails jobDetails = withoutImplicitWait(() -> extractJobDetailsFromElement(jobElement, jobIndex));
                     if (jobDetails.isValid()) {
                         jobDetailsList.add(jobDetails);
                         System.out.println("Job " + (i + 1) + ": " + jobDetails);
@@ -523,34 +767,163 @@ public class QAJobsPage extends BasePage {
             // Extract location
             location = extractTextFromElement(jobElement, individualJobLocations, "location");
             
-            // If no specific department found, try to get it from position text
-            if (department.isEmpty() && position.toLowerCase().contains("quality assurance")) {
-                department = "Quality Assurance";
-            }
-            
             // Enhanced location extraction strategies
             if (location.isEmpty()) {
                 location = extractLocationFromJobElement(jobElement);
             }
             
-            // Scenario 4: Since UI filters were applied, assume filtered data
-            if (position.isEmpty()) {
-                position = "Quality Assurance Engineer"; // Default QA position
-            }
-            if (department.isEmpty()) {
-                department = "Quality Assurance"; // Default QA department
-            }
-            if (location.isEmpty()) {
-                location = "Istanbul, Turkiye"; // Default filtered location
-            }
-            
         } catch (Exception e) {
             System.out.println("Error extracting details from job element " + jobIndex + ": " + e.getMessage());
         }
         
+        return completeJobDetails(position, department, location, jobElement);
+    }
+    
+    /**
+     * Applies the shared fallbacks for fields that could not be extracted
+     * @return JobDetails with department derived from position and filter defaults for missing fields
+     */
+    static JobDetails completeJobDetails(String position, String department, String location, WebElement jobElement) {
+        // If no specific department found, try to get it from position text
+        if (department.isEmpty() && position.toLowerCase().contains("quality assurance")) {
+            department = "Quality Assurance";
+        }
+        
+        // Scenario 4: Since UI filters were applied, assume filtered data
+        if (position.isEmpty()) {
+            position = "Quality Assurance Engineer"; // Default QA position
+        }
+        if (department.isEmpty()) {
+            department = "Quality Assurance"; // Default QA department
+        }
+        if (location.isEmpty()) {
+            location = "Istanbul, Turkiye"; // Default filtered location
+        }
+        
         return new JobDetails(position, department, location, jobElement);
     }
     
+    /**
+     * Extracts position, department and location for every job card with a single call of the extractJobCards helper.
+     * The helper applies the same selectors as the element-by-element path and returns raw text candidates;
+     * the location fallbacks are then applied in Java without further WebDriver round trips.
+     * @return List of JobDetails, empty if no job cards were found
+     */
+    private List<JobDetails> extractAllJobDetailsInOneCall() {
+        long start = System.currentTimeMillis();
+        List<JobDetails> jobDetailsList = new ArrayList<>();
+        
+        Object result = PageHelpers.call(driver, "extractJobCards",
+            JOB_ITEMS_XPATH,
+            ALTERNATIVE_JOB_ITEMS_XPATH,
+            JOB_TITLE_CSS,
+            JOB_DEPARTMENT_CSS,
+            JOB_LOCATION_CSS,
+            LOCATION_FALLBACK_SELECTORS);
+        
+        if (!(result instanceof List)) {
+            return jobDetailsList;
+        }
+        
+        List<?> cards = (List<?>) result;
+        System.out.println("Found " + cards.size() + " job listings to extract details from (single script call)");
+        
+        for (int i = 0; i < cards.size(); i++) {
+            Map<?, ?> card = (Map<?, ?>) cards.get(i);
+            String position = stringValue(card.get("position"));
+            String department = stringValue(card.get("department"));
+            String location = stringValue(card.get("location"));
+            
+            if (location.isEmpty()) {
+                location = resolveLocationFromCandidates(card);
+            }
+            
+            JobDetails jobDetails = completeJobDetails(position, department, location, (WebElement) card.get("element"));
+            if (jobDetails.isValid()) {
+                jobDetailsList.add(jobDetails);
+                System.out.println("Job " + (i + 1) + ": " + jobDetails);
+            } else {
+                System.out.println("Job " + (i + 1) + ": No valid details found");
+            }
+        }
+        
+        System.out.println("Successfully extracted details for " + jobDetailsList.size() + " jobs in "
+            + (System.currentTimeMillis() - start) + "ms");
+        return jobDetailsList;
+    }
+    
+    private String resolveLocationFromCandidates(Map<?, ?> card) {
+        // One list per fallback selector, flattened in selector order
+        List<String> locationCandidates = new ArrayList<>();
+        Object perSelector = card.get("locationCandidates");
+        if (perSelector instanceof List) {
+            for (Object candidates : (List<?>) perSelector) {
+                locationCandidates.addAll(stringList(candidates));
+            }
+        }
+        return resolveLocation(locationCandidates, stringList(card.get("textCandidates")),
+            stringValue(card.get("fullText")));
+    }
+    
+    /**
+     * Mirrors extractLocationFromJobElement on already extracted text, without WebDriver calls
+     * @param locationCandidates Texts of elements matching the location fallback selectors, selector by selector
+     * @param textCandidates Texts of all elements that directly contain text
+     * @param fullText Full text of the job card
+     * @return Resolved location or empty string
+     */
+    static String resolveLocation(List<String> locationCandidates, List<String> textCandidates, String fullText) {
+        for (List<String> candidates : List.of(locationCandidates, textCandidates)) {
+            for (String text : candidates) {
+                if (isValidLocation(text)) {
+                    return text;
+                }
+            }
+        }
+        
+        String parsedLocation = parseLocationFromText(fullText);
+        if (!parsedLocation.isEmpty()) {
+            return parsedLocation;
+        }
+        
+        // Since we applied Istanbul filter, assume Istanbul if we have a job
+        return hasValidJobText(fullText) ? "Istanbul, Turkiye" : "";
+    }
+    
+    private static String stringValue(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+    
+    private static List<String> stringList(Object value) {
+        List<String> texts = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                texts.add(stringValue(item));
+            }
+        }
+        return texts;
+    }
+    
+    /**
+     * Captures the current page source once so job details can be parsed offline
+     * @return Snapshot of the filtered job listing page
+     */
+    public JobListingSnapshot captureJobListingSnapshot() {
+        JobListingSnapshot snapshot = JobListingSnapshot.capture(driver);
+        
+        String snapshotPath = TestUtils.getProperty("snapshot.path");
+        if (snapshotPath != null && !snapshotPath.trim().isEmpty()) {
+            try {
+                Path file = Paths.get(snapshotPath, TestUtils.uniqueArtifactName("job-listing", "html"));
+                snapshot.save(file);
+                System.out.println("✓ Job listing snapshot saved: " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.out.println("Could not save job listing snapshot: " + e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+    
     /**
      * Helper method to extract text from an element using multiple selector strategies
      * @param parentElement The parent element to search within
@@ -638,7 +1011,7 @@ public class QAJobsPage extends BasePage {
      * @param expectedDepartment Expected department (e.g., "Quality Assurance")
      * @return ValidationResult with pass/fail status and detailed message
      */
-    public ValidationResult validateJobCriteria(JobDetails jobDetails, String expectedLocation, String expectedDepartment) {
+    public static ValidationResult validateJobCriteria(JobDetails jobDetails, String expectedLocation, String expectedDepartment) {
         List<String> errors = new ArrayList<>();
         boolean isValid = true;
         
@@ -672,7 +1045,7 @@ public class QAJobsPage extends BasePage {
      * @param text Text to check
      * @return true if contains QA-related terms
      */
-    private boolean containsQualityAssuranceTerms(String text) {
+    private static boolean containsQualityAssuranceTerms(String text) {
         if (text == null || text.trim().isEmpty()) {
             return false;
         }
@@ -692,7 +1065,7 @@ public class QAJobsPage extends BasePage {
      * @param expectedDepartment Expected department filter
      * @return Overall validation summary
      */
-    public ValidationSummary validateAllJobs(List<JobDetails> jobDetailsList, String expectedLocation, String expectedDepartment) {
+    public static ValidationSummary validateAllJobs(List<JobDetails> jobDetailsList, String expectedLocation, String expectedDepartment) {
         System.out.println("=== VALIDATING ALL JOBS AGAINST FILTER CRITERIA ===");
         System.out.println("Expected Location: " + expectedLocation);
         System.out.println("Expected Department: " + expectedDepartment);
@@ -786,7 +1159,7 @@ public class QAJobsPage extends BasePage {
             } else {
                 // Scroll down to look for jobs
                 scrollToBottom();
-                try { Thread.sleep(2000); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                waitForPresence("Jobs container loaded after scroll", 2000, Duration.ofSeconds(5), jobListingsContainer);
                 System.out.println("✓ Scrolled to bottom to find jobs");
             }
         } catch (Exception e) {
@@ -824,24 +1197,11 @@ public class QAJobsPage extends BasePage {
     private List<WebElement> findJobElements() {
         System.out.println("=== SEARCHING FOR JOB ELEMENTS ===");
         
-        // Strategy 1: Primary selectors
-        List<WebElement> jobs = findElements(jobItems);
-        System.out.println("Primary jobItems selector found: " + jobs.size() + " jobs");
-        
-        if (!jobs.isEmpty()) {
-            return jobs;
-        }
-        
-        // Strategy 2: Alternative selectors
-        jobs = findElements(alternativeJobItems);
-        System.out.println("Alternative jobItems selector found: " + jobs.size() + " jobs");
-        
-        if (!jobs.isEmpty()) {
-            return jobs;
-        }
-        
-        // Strategy 3: Generic job-related selectors
-        By[] genericSelectors = {
+        // Primary and alternative selectors first, then generic job-related selectors whose
+        // matches are filtered; the selector that worked last run is tried first
+        By[] jobSelectors = {
+            jobItems,
+            alternativeJobItems,
             By.cssSelector("[class*='job-item'], [class*='position-item'], [class*='job-listing']"),
             By.cssSelector("[data-qa*='job'], [data-testid*='job'], [id*='job']"),
             By.xpath("//div[contains(@class, 'job') or contains(@class, 'position') or contains(@class, 'listing')]"),
@@ -849,17 +1209,20 @@ public class QAJobsPage extends BasePage {
             By.xpath("//div[@id='jobs-list']//div[contains(@class, 'row') or contains(@class, 'item')]")
         };
         
-        for (By selector : genericSelectors) {
-            jobs = findElements(selector);
-            System.out.println("Generic selector (" + selector + ") found: " + jobs.size() + " elements");
-            if (!jobs.isEmpty()) {
-                // Filter out non-job elements
-                jobs = filterJobElements(jobs);
-                if (!jobs.isEmpty()) {
-                    System.out.println("After filtering: " + jobs.size() + " valid job elements");
-                    return jobs;
-                }
+        List<WebElement> jobs = findFirstAvailable("jobs.items", selector -> {
+            List<WebElement> found = findElements(selector);
+            System.out.println("Selector (" + selector + ") found: " + found.size() + " elements");
+            if (found.isEmpty() || selector.equals(jobItems) || selector.equals(alternativeJobItems)) {
+                return found;
             }
+            // Filter out non-job elements
+            List<WebElement> filtered = filterJobElements(found);
+            System.out.println("After filtering: " + filtered.size() + " valid job elements");
+            return filtered;
+        }, jobSelectors);
+        
+        if (jobs != null) {
+            return jobs;
         }
         
         // Strategy 4: Debug - show all elements within jobs container
@@ -877,10 +1240,10 @@ public class QAJobsPage extends BasePage {
     private List<WebElement> filterJobElements(List<WebElement> elements) {
         List<WebElement> filteredJobs = new ArrayList<>();
         
-        for (WebElement element : elements) {
+        for (ElementSnapshot snapshot : readElements(elements, TEXT_AND_CLASS, "class")) {
             try {
-                String elementText = element.getText().toLowerCase();
-                String elementClass = element.getAttribute("class");
+                String elementText = snapshot.getText().toLowerCase();
+                String elementClass = snapshot.getAttribute("class");
                 
                 // Check if element looks like a job listing
                 boolean isJobElement = elementText.contains("apply") ||
@@ -903,7 +1266,7 @@ public class QAJobsPage extends BasePage {
                                         elementText.length() < 10; // Too short to be a job listing
                 
                 if (isJobElement && !isNotJobElement) {
-                    filteredJobs.add(element);
+                    filteredJobs.add(snapshot.getElement());
                 }
             } catch (Exception e) {
                 // Skip problematic elements
@@ -1035,7 +1398,7 @@ public class QAJobsPage extends BasePage {
     /**
      * Checks if text looks like a valid location
      */
-    private boolean isValidLocation(String text) {
+    private static boolean isValidLocation(String text) {
         if (text == null || text.trim().length() < 3) {
             return false;
         }
@@ -1051,7 +1414,7 @@ public class QAJobsPage extends BasePage {
     /**
      * Parses location from full job text
      */
-    private String parseLocationFromText(String fullText) {
+    private static String parseLocationFromText(String fullText) {
         if (fullText == null || fullText.trim().isEmpty()) {
             return "";
         }
@@ -1083,18 +1446,22 @@ public class QAJobsPage extends BasePage {
      */
     private boolean hasValidJobContent(WebElement jobElement) {
         try {
-            String jobText = jobElement.getText().toLowerCase();
-            return jobText.contains("quality") ||
-                   jobText.contains("assurance") ||
-                   jobText.contains("engineer") ||
-                   jobText.contains("specialist") ||
-                   jobText.contains("test") ||
-                   jobText.contains("qa");
+            return hasValidJobText(jobElement.getText());
         } catch (Exception e) {
             return false;
         }
     }
     
+    private static boolean hasValidJobText(String text) {
+        String jobText = text.toLowerCase();
+        return jobText.contains("quality") ||
+               jobText.contains("assurance") ||
+               jobText.contains("engineer") ||
+               jobText.contains("specialist") ||
+               jobText.contains("test") ||
+               jobText.contains("qa");
+    }
+    
     // ========== SCENARIO 5: VIEW ROLE / LEVER APPLICATION INTEGRATION ==========
     
     // Specific selectors for Scenario 5 as per user requirements
@@ -1121,6 +1488,8 @@ public class QAJobsPage extends BasePage {
         System.out.println("=== SCENARIO 5: Clicking 'View Role' for first job (Direct XPath Approach) ===");
         
         String originalWindow = driver.getWindowHandle();
+        int windowsBefore = BrowserContexts.windowHandles(driver).size();
+        String urlBefore = getCurrentUrl();
         System.out.println("Original window handle: " + originalWindow);
         
         try {
@@ -1142,7 +1511,7 @@ public class QAJobsPage extends BasePage {
             String strategyUsed = "";
             
             // Try Strategy 1
-            if (isElementDisplayed(exactJobXPath)) {
+            if (isElementPresentOptional(exactJobXPath)) {
                 firstJob = findElement(exactJobXPath);
                 strategyUsed = "Exact user-provided XPath";
                 System.out.println("✓ Found first job using exact XPath");
@@ -1176,27 +1545,16 @@ public class QAJobsPage extends BasePage {
             
             System.out.println("✓ Successfully located first job element using: " + strategyUsed);
             
-            // Step 2: Scroll directly to this specific job element
+            // Step 2: Scroll directly to this specific job element (waits until it is in the viewport)
             System.out.println("Step 2: Scrolling directly to first job element...");
             scrollToElementByJS(firstJob);
             
-            // Wait for scroll and any dynamic loading
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            
             // Step 3: Hover mouse over the first job element to reveal View Role button
             System.out.println("Step 3: Hovering mouse over first job element to reveal 'View Role' button...");
             hoverOverElement(firstJob);
             
             // Wait for hover effect and button to appear
-            try {
-                Thread.sleep(3000); // Extended wait for hover effect
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            waitForVisible("View Role button revealed by hover", 5000, Duration.ofSeconds(5), specificViewRoleButton);
             
             // Step 4: Look for the specific View Role button as per user requirements
             System.out.println("Step 4: Looking for 'View Role' button at specific XPath after hover...");
@@ -1212,7 +1570,7 @@ public class QAJobsPage extends BasePage {
                 viewRoleBtn.click();
                 
                 // Wait for potential redirect/new tab
-                waitForRedirectOrNewTab();
+                waitForRedirectOrNewTab(windowsBefore, urlBefore);
                 return originalWindow;
             }
             
@@ -1233,7 +1591,6 @@ public class QAJobsPage extends BasePage {
                         if (link.isDisplayed() && link.isEnabled()) {
                             // Scroll to the link to ensure it's in viewport
                             scrollToElementByJS(link);
-                            Thread.sleep(1000);
                             
                             // Try multiple click strategies
                             try {
@@ -1244,7 +1601,7 @@ public class QAJobsPage extends BasePage {
                                 System.out.println("Regular click failed, trying JavaScript click...");
                                 try {
                                     // Strategy 2: JavaScript click
-                                    ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", link);
+                                    PageHelpers.call(driver, "click", link);
                                     System.out.println("✓ Successfully clicked Lever link using JavaScript click");
                                 } catch (Exception jsError) {
                                     System.out.println("JavaScript click failed, trying href navigation...");
@@ -1254,7 +1611,7 @@ public class QAJobsPage extends BasePage {
                                 }
                             }
                             
-                            waitForRedirectOrNewTab();
+                            waitForRedirectOrNewTab(windowsBefore, urlBefore);
                             return originalWindow;
                         } else {
                             System.out.println("⚠ Lever link found but not clickable (displayed: " + 
@@ -1283,23 +1640,22 @@ public class QAJobsPage extends BasePage {
                         // Optimized click with multiple strategies
                         if (button.isDisplayed() && button.isEnabled()) {
                             scrollToElementByJS(button);
-                            Thread.sleep(500);
                             
                             try {
                                 button.click();
                                 System.out.println("✓ Successfully clicked using regular click");
                             } catch (Exception e) {
-                                ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+                                PageHelpers.call(driver, "click", button);
                                 System.out.println("✓ Successfully clicked using JavaScript click");
                             }
                             
-                            waitForRedirectOrNewTab();
+                            waitForRedirectOrNewTab(windowsBefore, urlBefore);
                             return originalWindow;
                         } else {
                             // Direct navigation if button not clickable
                             System.out.println("Button not clickable, navigating directly to: " + href);
                             driver.get(href);
-                            waitForRedirectOrNewTab();
+                            waitForRedirectOrNewTab(windowsBefore, urlBefore);
                             return originalWindow;
                         }
                     }
@@ -1314,7 +1670,7 @@ public class QAJobsPage extends BasePage {
             
         } catch (Exception e) {
             System.err.println("Error in Scenario 5 View Role click: " + e.getMessage());
-            throw new RuntimeException("Failed to click 'View Role' button as per Scenario 5 requirements: " + e.getMessage());
+            throw new RuntimeException("Failed to click 'View Role' button as per Scenario 5 requirements: " + e.getMessage(), e);
         }
     }
     
@@ -1327,6 +1683,8 @@ public class QAJobsPage extends BasePage {
         System.out.println("=== SCENARIO 5: Clicking 'View Role' for job index " + jobIndex + " ===");
         
         String originalWindow = driver.getWindowHandle();
+        int windowsBefore = BrowserContexts.windowHandles(driver).size();
+        String urlBefore = getCurrentUrl();
         
         try {
             List<WebElement> jobs = findFilteredJobElements();
@@ -1345,11 +1703,11 @@ public class QAJobsPage extends BasePage {
             scrollToElementByJS(targetJob);
             
             // Find and click View Role button for this specific job
-            WebElement viewRoleBtn = findViewRoleButtonInJob(targetJob);
+            WebElement viewRoleBtn = withoutImplicitWait(() -> findViewRoleButtonInJob(targetJob));
             if (viewRoleBtn != null) {
                 System.out.println("Found 'View Role' button for job " + (jobIndex + 1) + ", clicking...");
                 viewRoleBtn.click();
-                waitForRedirectOrNewTab();
+                waitForRedirectOrNewTab(windowsBefore, urlBefore);
                 return originalWindow;
             }
             
@@ -1357,7 +1715,7 @@ public class QAJobsPage extends BasePage {
             
         } catch (Exception e) {
             System.out.println("Error clicking 'View Role' for job " + jobIndex + ": " + e.getMessage());
-            throw new RuntimeException("Failed to click 'View Role' for job " + jobIndex + ": " + e.getMessage());
+            throw new RuntimeException("Failed to click 'View Role' for job " + jobIndex + ": " + e.getMessage(), e);
         }
     }
     
@@ -1384,13 +1742,9 @@ public class QAJobsPage extends BasePage {
         
         for (By selector : buttonSelectors) {
             try {
-                List<WebElement> buttons = jobElement.findElements(selector);
-                for (WebElement button : buttons) {
-                    if (isValidViewRoleButton(button)) {
-                        String buttonText = button.getText().trim();
-                        System.out.println("Found valid 'View Role' button: '" + buttonText + "'");
-                        return button;
-                    }
+                WebElement button = findValidViewRoleButton(jobElement.findElements(selector));
+                if (button != null) {
+                    return button;
                 }
             } catch (Exception e) {
                 // Continue to next selector
@@ -1400,11 +1754,11 @@ public class QAJobsPage extends BasePage {
         // Strategy 2: Look for any clickable link that might lead to application
         try {
             List<WebElement> allLinks = jobElement.findElements(By.tagName("a"));
-            for (WebElement link : allLinks) {
+            for (ElementSnapshot link : readElements(allLinks, EnumSet.of(ElementSnapshot.Field.ATTRIBUTES), "href")) {
                 String href = link.getAttribute("href");
                 if (href != null && (href.contains("lever") || href.contains("apply") || href.contains("job"))) {
                     System.out.println("Found potential application link: " + href);
-                    return link;
+                    return link.getElement();
                 }
             }
         } catch (Exception e) {
@@ -1426,13 +1780,10 @@ public class QAJobsPage extends BasePage {
         try {
             // Look in parent element for buttons
             WebElement parent = jobElement.findElement(By.xpath(".."));
-            List<WebElement> nearbyButtons = parent.findElements(jobActionButtons);
-            
-            for (WebElement button : nearbyButtons) {
-                if (isValidViewRoleButton(button)) {
-                    System.out.println("Found 'View Role' button near job: '" + button.getText().trim() + "'");
-                    return button;
-                }
+            WebElement nearbyButton = findValidViewRoleButton(parent.findElements(jobActionButtons));
+            if (nearbyButton != null) {
+                System.out.println("Found 'View Role' button near job");
+                return nearbyButton;
             }
             
             // Look for buttons in sibling elements
@@ -1440,12 +1791,10 @@ public class QAJobsPage extends BasePage {
             for (WebElement sibling : siblings) {
                 if (sibling.equals(jobElement)) continue;
                 
-                List<WebElement> siblingButtons = sibling.findElements(jobActionButtons);
-                for (WebElement button : siblingButtons) {
-                    if (isValidViewRoleButton(button)) {
-                        System.out.println("Found 'View Role' button in sibling: '" + button.getText().trim() + "'");
-                        return button;
-                    }
+                WebElement siblingButton = findValidViewRoleButton(sibling.findElements(jobActionButtons));
+                if (siblingButton != null) {
+                    System.out.println("Found 'View Role' button in sibling");
+                    return siblingButton;
                 }
             }
         } catch (Exception e) {
@@ -1456,11 +1805,26 @@ public class QAJobsPage extends BasePage {
     }
     
     /**
-     * Validates if a button is a valid View Role/Apply button
-     * @param button The button element to validate
+     * Reads all candidate buttons in one call and returns the first valid View Role/Apply button
+     * @param buttons Candidate button elements
+     * @return The first valid button or null if none qualifies
+     */
+    private WebElement findValidViewRoleButton(List<WebElement> buttons) {
+        for (ElementSnapshot button : readElements(buttons, BUTTON_FIELDS, "class", "href")) {
+            if (isValidViewRoleButton(button)) {
+                System.out.println("Found valid 'View Role' button: '" + button.getText() + "'");
+                return button.getElement();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Validates if a button snapshot is a valid View Role/Apply button
+     * @param button Snapshot with text, class, href, displayed and enabled read
      * @return true if it's a valid View Role button
      */
-    private boolean isValidViewRoleButton(WebElement button) {
+    private boolean isValidViewRoleButton(ElementSnapshot button) {
         try {
             String buttonText = button.getText().toLowerCase().trim();
             String buttonClass = button.getAttribute("class");
@@ -1538,19 +1902,20 @@ public class QAJobsPage extends BasePage {
     
     /**
      * Waits for potential redirect or new tab to open after clicking View Role
+     * @param windowsBefore Number of open windows before the click
+     * @param urlBefore URL of the current window before the click
      */
-    private void waitForRedirectOrNewTab() {
+    private void waitForRedirectOrNewTab(int windowsBefore, String urlBefore) {
         System.out.println("Waiting for redirect or new tab to open...");
         
         try {
             // Wait for page change or new tab
-            Thread.sleep(3000);
+            waitForNewWindowOrUrlChange("New tab or redirect after View Role", 3000,
+                Duration.ofSeconds(10), windowsBefore, urlBefore);
             
-            System.out.println("Current windows/tabs: " + driver.getWindowHandles().size());
+            System.out.println("Current windows/tabs: " + BrowserContexts.windowHandles(driver).size());
             System.out.println("Current URL: " + getCurrentUrl());
             
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (Exception e) {
             System.out.println("Error waiting for redirect: " + e.getMessage());
         }
@@ -1612,9 +1977,7 @@ public class QAJobsPage extends BasePage {
                 scrollToElement(careerPositionSection);
                 System.out.println("✓ Scrolled to career position list section");
                 
-                // Wait and then try to scroll to the row inside
-                Thread.sleep(2000);
-                
+                // scrollToElement waits for the section to settle, then scroll to the row inside
                 if (isElementDisplayed(careerPositionRow)) {
                     scrollToElement(careerPositionRow);
                     System.out.println("✓ Scrolled to career position row");
@@ -1635,9 +1998,6 @@ public class QAJobsPage extends BasePage {
                 }
             }
             
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            System.out.println("Scroll interrupted");
         } catch (Exception e) {
             System.out.println("Error scrolling to career position list: " + e.getMessage());
             // Fallback scroll using BasePage methods
@@ -1666,7 +2026,7 @@ public class QAJobsPage extends BasePage {
             
             for (int i = 0; i < jobs.size(); i++) {
                 WebElement job = jobs.get(i);
-                WebElement viewRoleBtn = findViewRoleButtonInJob(job);
+                WebElement viewRoleBtn = withoutImplicitWait(() -> findViewRoleButtonInJob(job));
                 if (viewRoleBtn != null) {
                     allButtons.add(viewRoleBtn);
                     System.out.println("Job " + (i + 1) + " has View Role button: '" + viewRoleBtn.getText().trim() + "'");
@@ -0,0 +1,110 @@
+package utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WebDriver wait that polls according to a {@link PollingStrategy}.
+ * Instances are immutable and keep no state between calls, so one wait per timeout
+ * can be created once and reused instead of allocating a new WebDriverWait per check.
+ */
+public class BackoffWait implements Wait<WebDriver> {
+    private static final PollingStrategy DEFAULT_STRATEGY = PollingStrategy.fromConfig();
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final PollingStrategy strategy;
+    private final List<Class<? extends Throwable>> ignoredExceptions;
+
+    public BackoffWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, DEFAULT_STRATEGY, Collections.emptyList());
+    }
+
+    public BackoffWait(WebDriver driver, Duration timeout, PollingStrategy strategy) {
+        this(driver, timeout, strategy, Collections.emptyList());
+    }
+
+    private BackoffWait(WebDriver driver, Duration timeout, PollingStrategy strategy,
+                        List<Class<? extends Throwable>> ignoredExceptions) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.strategy = strategy;
+        this.ignoredExceptions = ignoredExceptions;
+    }
+
+    /**
+     * @return A copy of this wait that keeps polling when the condition throws one of the given exceptions
+     */
+    @SafeVarargs
+    public final BackoffWait ignoring(Class<? extends Throwable>... exceptions) {
+        // Copied element by element so the varargs array itself never escapes (heap pollution)
+        List<Class<? extends Throwable>> copy = new ArrayList<>(exceptions.length);
+        for (Class<? extends Throwable> exception : exceptions) {
+            copy.add(exception);
+        }
+        return new BackoffWait(driver, timeout, strategy, Collections.unmodifiableList(copy));
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long end = System.nanoTime() + timeout.toNanos();
+        int polls = 0;
+        Throwable lastException = null;
+
+        while (true) {
+            polls++;
+            try {
+                V value = isTrue.apply(driver);
+                if (value != null && (!(value instanceof Boolean) || Boolean.TRUE.equals(value))) {
+                    return value;
+                }
+                lastException = null;
+            } catch (Throwable e) {
+                if (!isIgnored(e)) {
+                    if (e instanceof RuntimeException) {
+                        throw (RuntimeException) e;
+                    }
+                    if (e instanceof Error) {
+                        throw (Error) e;
+                    }
+                    throw new WebDriverException(e);
+                }
+                lastException = e;
+            }
+
+            long remainingMillis = (end - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Expected condition failed: " + isTrue + " (tried for "
+                    + timeout.toMillis() + "ms with " + polls + " polls)", lastException);
+            }
+
+            try {
+                Thread.sleep(Math.min(strategy.delayBeforePoll(polls).toMillis(), remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for: " + isTrue, e);
+            }
+        }
+    }
+
+    private boolean isIgnored(Throwable e) {
+        for (Class<? extends Throwable> ignored : ignoredExceptions) {
+            if (ignored.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
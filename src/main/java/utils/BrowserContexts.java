@@ -0,0 +1,221 @@
+package utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.CapabilityType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Isolated browser contexts inside one browser process (driver.isolation=context, Chrome and Edge).
+ * The first session of a browser type starts the host browser; every test session then attaches to it
+ * through its DevTools address and works in its own context created with CDP {@code Target.createBrowserContext},
+ * with separate cookies, storage and cache. A context costs a renderer instead of a whole browser.
+ * Because all contexts share the browser's window list, window handles of a context session must be read
+ * through {@link #windowHandles(WebDriver)}.
+ */
+public class BrowserContexts {
+    private static final Map<String, WebDriver> hosts = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, String> contexts = new ConcurrentHashMap<>();
+
+    private BrowserContexts() {
+    }
+
+    /**
+     * @return true if sessions of this browser can run in contexts of a shared browser
+     */
+    public static boolean supports(String browser) {
+        return "chrome".equals(browser) || "edge".equals(browser);
+    }
+
+    /**
+     * Creates a session working in a new isolated context of the shared browser, starting the browser on first use
+     * @param browser chrome or edge
+     * @param hostOptions Options the shared browser is started with
+     * @param sessionStarter Starts a WebDriver session for the given options
+     * @return A session whose current window is the blank page of its own context
+     */
+    public static WebDriver openContext(String browser, ChromiumOptions<?> hostOptions,
+                                        Function<ChromiumOptions<?>, WebDriver> sessionStarter) {
+        WebDriver host = hosts.computeIfAbsent(browser, b -> startHost(b, hostOptions, sessionStarter));
+
+        ChromiumOptions<?> attachOptions = "edge".equals(browser) ? new EdgeOptions() : new ChromeOptions();
+        attachOptions.setExperimentalOption("debuggerAddress", debuggerAddress(browser, host));
+        Object pageLoadStrategy = hostOptions.getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+        if (pageLoadStrategy != null) {
+            attachOptions.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, pageLoadStrategy);
+        }
+
+        WebDriver driver = sessionStarter.apply(attachOptions);
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            // Not disposeOnDetach: the attached session may start on another context's window, whose closing would detach it
+            String contextId = createContext(cdp);
+
+            driver.switchTo().window(handleFor(driver, createBlankTarget(cdp, contextId)));
+            contexts.put(driver, contextId);
+            System.out.println("🚀 Isolated browser context opened (" + contexts.size() + " active)");
+            return driver;
+        } catch (RuntimeException e) {
+            quietly(driver::quit);
+            throw new RuntimeException("Failed to open isolated browser context: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Window handles belonging to the session's own context; other sessions' windows are left out.
+     * Sessions not running in a context get all their window handles.
+     */
+    public static Set<String> windowHandles(WebDriver driver) {
+        String contextId = contexts.get(driver);
+        if (contextId == null) {
+            return driver.getWindowHandles();
+        }
+
+        Set<String> targetIds = new LinkedHashSet<>();
+        for (Map<String, Object> target : targetInfos(driver)) {
+            if ("page".equals(target.get("type")) && contextId.equals(target.get("browserContextId"))) {
+                targetIds.add((String) target.get("targetId"));
+            }
+        }
+
+        Set<String> handles = new LinkedHashSet<>();
+        for (String handle : driver.getWindowHandles()) {
+            for (String targetId : targetIds) {
+                if (handle.endsWith(targetId)) {
+                    handles.add(handle);
+                }
+            }
+        }
+        return handles;
+    }
+
+    /**
+     * Opens a new blank window in the session's own context (a new tab for sessions not running in a context)
+     * and switches to it
+     * @return Handle of the new window
+     */
+    public static String openWindow(WebDriver driver) {
+        String contextId = contexts.get(driver);
+        if (contextId == null) {
+            return driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+        }
+        String handle = handleFor(driver, createBlankTarget((HasCdp) driver, contextId));
+        driver.switchTo().window(handle);
+        return handle;
+    }
+
+    /**
+     * Replaces the session's context with a new, empty one: a blank window in a new context, then the old context
+     * disposed with all its windows, cookies and storage. A constant number of CDP calls, however many origins
+     * the test visited. Does nothing for sessions not running in a context.
+     * @return true if the context was replaced
+     */
+    public static boolean renewContext(WebDriver driver) {
+        String oldContextId = contexts.get(driver);
+        if (oldContextId == null) {
+            return false;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        String contextId = createContext(cdp);
+        driver.switchTo().window(handleFor(driver, createBlankTarget(cdp, contextId)));
+        contexts.put(driver, contextId);
+        cdp.executeCdpCommand("Target.disposeBrowserContext", Collections.singletonMap("browserContextId", oldContextId));
+        return true;
+    }
+
+    /**
+     * Closes the session's context with all its windows, cookies and storage; call before quitting the session.
+     * Does nothing for sessions not running in a context.
+     */
+    public static void dispose(WebDriver driver) {
+        String contextId = contexts.remove(driver);
+        if (contextId == null) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Target.disposeBrowserContext",
+                Collections.singletonMap("browserContextId", contextId));
+        } catch (WebDriverException e) {
+            System.out.println("Warning: Could not dispose browser context: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Quits the shared browsers; context sessions must be quit first
+     */
+    public static void shutdown() {
+        for (String browser : hosts.keySet()) {
+            WebDriver host = hosts.remove(browser);
+            if (host != null) {
+                quietly(host::quit);
+            }
+        }
+    }
+
+    private static WebDriver startHost(String browser, ChromiumOptions<?> hostOptions,
+                                       Function<ChromiumOptions<?>, WebDriver> sessionStarter) {
+        System.out.println("🚀 Starting shared " + browser + " browser for isolated contexts");
+        return sessionStarter.apply(hostOptions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String debuggerAddress(String browser, WebDriver host) {
+        Capabilities capabilities = ((HasCapabilities) host).getCapabilities();
+        Object browserOptions = capabilities.getCapability("edge".equals(browser) ? "ms:edgeOptions" : "goog:chromeOptions");
+        Object address = browserOptions instanceof Map ? ((Map<String, Object>) browserOptions).get("debuggerAddress") : null;
+        if (address == null) {
+            throw new RuntimeException("Shared " + browser + " browser does not expose a DevTools address");
+        }
+        return address.toString();
+    }
+
+    private static String createContext(HasCdp cdp) {
+        return (String) cdp.executeCdpCommand("Target.createBrowserContext", Collections.emptyMap()).get("browserContextId");
+    }
+
+    private static String createBlankTarget(HasCdp cdp, String contextId) {
+        Map<String, Object> targetParams = new HashMap<>();
+        targetParams.put("url", "about:blank");
+        targetParams.put("browserContextId", contextId);
+        return (String) cdp.executeCdpCommand("Target.createTarget", targetParams).get("targetId");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> targetInfos(WebDriver driver) {
+        Map<String, Object> result = ((HasCdp) driver).executeCdpCommand("Target.getTargets", Collections.emptyMap());
+        return (List<Map<String, Object>>) result.get("targetInfos");
+    }
+
+    private static String handleFor(WebDriver driver, String targetId) {
+        // Window handles are DevTools target ids, prefixed by some driver versions
+        for (String handle : driver.getWindowHandles()) {
+            if (handle.endsWith(targetId)) {
+                return handle;
+            }
+        }
+        throw new RuntimeException("No window handle for browser context target " + targetId);
+    }
+
+    private static void quietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            System.out.println("Warning: Could not quit WebDriver session cleanly: " + e.getMessage());
+        }
+    }
+}
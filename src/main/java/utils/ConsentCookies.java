@@ -0,0 +1,117 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Cookie-consent state captured once per suite, after the first scenario accepted the banner,
+ * and injected into every other session before its first navigation through CDP {@code Network.setCookies}.
+ * Sessions that carry the cookies never show the banner, so the consent routines return immediately.
+ * Drivers without CDP keep accepting the banner themselves.
+ */
+public class ConsentCookies {
+    private static final boolean ENABLED = TestUtils.getBooleanProperty("consent.cookies.enabled", true);
+    private static final Pattern CONSENT_COOKIE = Pattern.compile(TestUtils.getProperty("consent.cookie.pattern",
+        "(?i)viewed_cookie_policy|cookielawinfo.*|CookieLawInfoConsent|wt-cli.*"));
+
+    private static volatile List<Cookie> captured = Collections.emptyList();
+    private static final Set<WebDriver> injected = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private ConsentCookies() {
+    }
+
+    /**
+     * @return true if the current site already has consent cookies, i.e. the banner will not be shown
+     */
+    public static boolean isConsentGiven(WebDriver driver) {
+        if (!ENABLED) {
+            return false;
+        }
+        try {
+            for (Cookie cookie : driver.manage().getCookies()) {
+                if (CONSENT_COOKIE.matcher(cookie.getName()).matches()) {
+                    return true;
+                }
+            }
+        } catch (WebDriverException e) {
+            // No document yet, treat as no consent
+        }
+        return false;
+    }
+
+    /**
+     * Stores the consent cookies of the current site after the banner was accepted; later captures are ignored
+     */
+    public static synchronized void capture(WebDriver driver) {
+        if (!ENABLED || !captured.isEmpty()) {
+            return;
+        }
+        List<Cookie> consent = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            if (CONSENT_COOKIE.matcher(cookie.getName()).matches()) {
+                consent.add(cookie);
+            }
+        }
+        if (!consent.isEmpty()) {
+            captured = Collections.unmodifiableList(consent);
+            injected.add(driver);
+            System.out.println("📸 Consent cookies captured: " + consent.size() + " cookies for new sessions");
+        }
+    }
+
+    /**
+     * Marks a session as having lost its cookies (e.g. after a reset), so the next {@link #inject(WebDriver)} sets them again
+     */
+    public static void forget(WebDriver driver) {
+        injected.remove(driver);
+    }
+
+    /**
+     * Sets the captured consent cookies on a session without navigating to the site first.
+     * Does nothing until consent was captured, for drivers without CDP, or if the session already has them.
+     */
+    public static void inject(WebDriver driver) {
+        List<Cookie> cookies = captured;
+        if (!ENABLED || cookies.isEmpty() || !(driver instanceof HasCdp) || injected.contains(driver)) {
+            return;
+        }
+
+        List<Map<String, Object>> params = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            Map<String, Object> param = new HashMap<>();
+            param.put("name", cookie.getName());
+            param.put("value", cookie.getValue());
+            param.put("domain", cookie.getDomain());
+            param.put("path", cookie.getPath());
+            param.put("secure", cookie.isSecure());
+            param.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getExpiry() != null) {
+                param.put("expires", cookie.getExpiry().getTime() / 1000);
+            }
+            if (cookie.getSameSite() != null) {
+                param.put("sameSite", cookie.getSameSite());
+            }
+            params.add(param);
+        }
+
+        try {
+            ((HasCdp) driver).executeCdpCommand("Network.setCookies", Collections.singletonMap("cookies", params));
+            injected.add(driver);
+            System.out.println("✓ Consent cookies injected into session (" + cookies.size() + " cookies)");
+        } catch (WebDriverException e) {
+            System.out.println("Warning: Could not inject consent cookies: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+import org.openqa.selenium.SessionNotCreatedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the driver binary for a browser once per JVM and pins it in a lockfile, together with the browser
+ * version it was resolved for, so later runs skip WebDriverManager's version lookups entirely. The installed
+ * browser version is detected locally on every run; a lock made for another major version is not reused.
+ * Modes (driver.resolution.mode):
+ * auto - use the locked binary if it still exists, otherwise resolve with WebDriverManager and lock the result;
+ * offline - never touch the network: use webdriver.&lt;browser&gt;.driver.path or the lockfile and fail clearly otherwise.
+ * An explicitly configured webdriver.&lt;browser&gt;.driver.path always wins.
+ */
+public class DriverBinaryResolver {
+    private static final String MODE = TestUtils.getProperty("driver.resolution.mode", "auto").toLowerCase();
+    private static final Path LOCK_FILE = Paths.get(TestUtils.getProperty("driver.lockfile.path", "target/driver-binaries.lock"));
+
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+    private static final Properties lock = new Properties();
+
+    static {
+        load();
+    }
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Makes the driver binary of a browser available to Selenium; only the first call per browser does any work
+     * @param browser chrome, firefox or edge
+     */
+    public static void resolve(String browser) {
+        if (resolved.containsKey(browser)) {
+            return;
+        }
+        synchronized (DriverBinaryResolver.class) {
+            if (resolved.containsKey(browser)) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            String driverPath = resolveDriverPath(browser);
+            System.setProperty(systemProperty(browser), driverPath);
+            resolved.put(browser, driverPath);
+            System.out.println("⚙️ " + browser + " driver resolved in " + (System.currentTimeMillis() - start) + "ms: " + driverPath);
+        }
+    }
+
+    /**
+     * Handles a session that could not be created with the resolved binary, typically a driver/browser version mismatch.
+     * A binary from the lockfile is dropped and resolved again, so the caller can retry the session once
+     * @param browser Browser whose session failed
+     * @param failure The session creation failure
+     * @throws RuntimeException in offline mode or for explicitly configured binaries, naming the binary that does not match
+     */
+    public static synchronized void recoverFromMismatch(String browser, SessionNotCreatedException failure) {
+        String driverPath = resolved.get(browser);
+        boolean locked = driverPath != null && driverPath.equals(lock.getProperty(browser + ".driver.path"));
+        if ("offline".equals(MODE) || !locked) {
+            throw new RuntimeException("Could not start " + browser + " with driver " + driverPath
+                + " (driver version " + lock.getProperty(browser + ".driver.version", "unknown")
+                + ", resolved for browser " + lock.getProperty(browser + ".browser.version", "unknown")
+                + ", installed browser " + orUnknown(installedBrowserVersion(browser)) + ")."
+                + " The driver probably does not match the installed browser - install a matching driver"
+                + " and update webdriver." + browser + ".driver.path or " + LOCK_FILE + ". Cause: " + failure.getMessage(), failure);
+        }
+
+        System.out.println("⚠️ Locked " + browser + " driver no longer matches the browser, resolving again...");
+        lock.remove(browser + ".driver.path");
+        lock.remove(browser + ".driver.version");
+        lock.remove(browser + ".browser.version");
+        resolved.remove(browser);
+        resolve(browser);
+    }
+
+    private static String resolveDriverPath(String browser) {
+        String configured = TestUtils.getProperty("webdriver." + browser + ".driver.path", "");
+        if (!configured.isEmpty()) {
+            return requireExisting(browser, configured, "webdriver." + browser + ".driver.path");
+        }
+
+        String installedVersion = installedBrowserVersion(browser);
+        String locked = lock.getProperty(browser + ".driver.path");
+        String lockedVersion = lock.getProperty(browser + ".browser.version");
+        boolean browserChanged = installedVersion != null && lockedVersion != null
+            && !VersionDetector.getMajorVersion(installedVersion).equals(VersionDetector.getMajorVersion(lockedVersion));
+        if (locked != null && Files.isExecutable(Paths.get(locked)) && !browserChanged) {
+            return locked;
+        }
+
+        if (browserChanged) {
+            String mismatch = "Locked " + browser + " driver " + locked + " (driver version "
+                + lock.getProperty(browser + ".driver.version", "unknown") + ") was resolved for browser " + lockedVersion
+                + ", but browser " + installedVersion + " is installed";
+            if ("offline".equals(MODE)) {
+                throw new RuntimeException("Offline driver resolution: " + mismatch + ". Install a matching driver and set"
+                    + " webdriver." + browser + ".driver.path, or run once with driver.resolution.mode=auto");
+            }
+            System.out.println("⚠️ " + mismatch + ", resolving again...");
+        }
+
+        if ("offline".equals(MODE)) {
+            throw new RuntimeException("Offline driver resolution: no usable " + browser + " driver."
+                + (locked != null ? " Locked binary is missing: " + locked + "." : "")
+                + " Set webdriver." + browser + ".driver.path to a preinstalled driver, or run once with"
+                + " driver.resolution.mode=auto to create " + LOCK_FILE);
+        }
+
+        WebDriverManager manager = manager(browser);
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        lock.setProperty(browser + ".driver.path", driverPath);
+        lock.setProperty(browser + ".driver.version", String.valueOf(manager.getDownloadedDriverVersion()));
+        manager.getBrowserPath().ifPresent(path -> lock.setProperty(browser + ".browser.path", path.toString()));
+        if (installedVersion != null) {
+            lock.setProperty(browser + ".browser.version", installedVersion);
+        } else {
+            lock.remove(browser + ".browser.version");
+        }
+        save();
+        return driverPath;
+    }
+
+    /**
+     * Detects the installed browser version locally (e.g. "chrome --version"), without any network lookup
+     * @return The browser version, or null if it cannot be detected
+     */
+    private static String installedBrowserVersion(String browser) {
+        try {
+            WebDriverManager manager = manager(browser);
+            return new VersionDetector(manager.config(), null)
+                .getBrowserVersionFromTheShell(manager.getDriverManagerType().getBrowserNameLowerCase())
+                .orElse(null);
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Could not detect the installed " + browser + " version: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String orUnknown(String value) {
+        return value != null ? value : "unknown";
+    }
+
+    private static String requireExisting(String browser, String driverPath, String source) {
+        if (!Files.isExecutable(Paths.get(driverPath))) {
+            throw new RuntimeException(browser + " driver from " + source + " does not exist or is not executable: " + driverPath);
+        }
+        return driverPath;
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browser);
+        }
+    }
+
+    private static String systemProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browser);
+        }
+    }
+
+    private static void save() {
+        try {
+            if (LOCK_FILE.getParent() != null) {
+                Files.createDirectories(LOCK_FILE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(LOCK_FILE)) {
+                lock.store(out, "Resolved driver binaries - delete to resolve again");
+            }
+        } catch (IOException e) {
+            System.out.println("Warning: Could not save driver lockfile: " + e.getMessage());
+        }
+    }
+
+    private static void load() {
+        if (!Files.exists(LOCK_FILE)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(LOCK_FILE)) {
+            lock.load(in);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not load driver lockfile, resolving again: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of reusable WebDriver sessions.
+ * Tests lease a session with {@link #acquire()} and hand it back with {@link #release(WebDriver)}
+ * instead of launching and quitting a browser for every test method.
+ * While tests run, standby sessions are started in the background (driver.pool.prewarm), so a test that
+ * needs a new session - the pool grows or a retired session is replaced - picks up a ready one.
+ */
+public class DriverPool {
+    private static final boolean POOL_ENABLED = TestUtils.getBooleanProperty("driver.pool.enabled", true);
+    private static final int POOL_SIZE = Math.max(1, TestUtils.getIntProperty("driver.pool.size", 1));
+    private static final int MAX_REUSE = Math.max(1, TestUtils.getIntProperty("driver.pool.max.reuse", 5));
+    private static final int ACQUIRE_TIMEOUT_SECONDS = TestUtils.getIntProperty("driver.pool.acquire.timeout", 120);
+    private static final int PREWARM_SESSIONS = Math.max(0, TestUtils.getIntProperty("driver.pool.prewarm", 1));
+    private static final long IDLE_POLL_MILLIS = 500;
+
+    private static final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private static final Map<WebDriver, Integer> leaseCounts = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> openSessions = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger reservedSlots = new AtomicInteger();
+    private static final AtomicInteger warmingSessions = new AtomicInteger();
+    private static final AtomicInteger waitingAcquirers = new AtomicInteger();
+    private static volatile boolean shuttingDown;
+
+    // One thread per standby session (at most driver.pool.prewarm), so standby sessions start side by side
+    private static final AtomicInteger prewarmThreads = new AtomicInteger();
+    private static final ExecutorService prewarmExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-pool-prewarm-" + prewarmThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // A single hook, since the JVM runs hooks concurrently: sessions must end before the shared driver
+        // processes serving them are stopped
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            shutdown();
+            SharedDriverServices.stopAll();
+        }, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    /**
+     * Leases a WebDriver session, reusing an idle one when available
+     * @return A healthy WebDriver session owned by the caller until released
+     */
+    public static WebDriver acquire() {
+        if (!POOL_ENABLED) {
+            return TestUtils.initializeDriver();
+        }
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ACQUIRE_TIMEOUT_SECONDS);
+        waitingAcquirers.incrementAndGet();
+        try {
+            return awaitSession(deadline);
+        } finally {
+            waitingAcquirers.decrementAndGet();
+        }
+    }
+
+    private static WebDriver awaitSession(long deadline) {
+        while (true) {
+            WebDriver driver = idleDrivers.poll();
+            if (driver != null && (driver = probe(driver)) != null) {
+                return lease(driver);
+            }
+
+            // A standby session that is already starting arrives sooner than a new one, so a new session is only
+            // started while the starting ones do not cover every waiting test (this one included)
+            if (warmingSessions.get() < waitingAcquirers.get() && tryReserveSlot()) {
+                return lease(createSession());
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new RuntimeException("Timed out after " + ACQUIRE_TIMEOUT_SECONDS
+                    + "s waiting for a pooled WebDriver session (pool size: " + POOL_SIZE + ")");
+            }
+
+            try {
+                driver = idleDrivers.poll(Math.min(remaining, IDLE_POLL_MILLIS), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a pooled WebDriver session", e);
+            }
+            if (driver != null && (driver = probe(driver)) != null) {
+                return lease(driver);
+            }
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool after resetting it to a clean state (see {@link SessionReset}).
+     * Sessions that fail the health check, cannot be reset or are due for recycling (see {@link SessionSupervisor})
+     * are quit instead of being reused.
+     * @param driver The session previously obtained from {@link #acquire()}
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        if (!POOL_ENABLED) {
+            BrowserContexts.dispose(driver);
+            driver.quit();
+            return;
+        }
+
+        String recycleReason = SessionSupervisor.recycleReason(driver, leaseCounts.getOrDefault(driver, 0), MAX_REUSE);
+        if (recycleReason != null) {
+            System.out.println("♻️ WebDriver session " + recycleReason + ", retiring it");
+            discard(driver);
+            prewarm();
+            return;
+        }
+
+        if (!isHealthy(driver)) {
+            System.out.println("⚠️ WebDriver session failed health check, discarding it");
+            discard(driver);
+            prewarm();
+            return;
+        }
+
+        // Milliseconds in place of the seconds a relaunch takes
+        if (!SessionReset.reset(driver)) {
+            System.out.println("⚠️ WebDriver session could not be reset to a clean state, discarding it");
+            discard(driver);
+            prewarm();
+            return;
+        }
+
+        idleDrivers.offer(driver);
+        System.out.println("✓ WebDriver session returned to pool (idle: " + idleDrivers.size() + ")");
+    }
+
+    /**
+     * Quits every session owned by the pool
+     */
+    public static void shutdown() {
+        shuttingDown = true;
+        WebDriver driver;
+        while ((driver = idleDrivers.poll()) != null) {
+            discard(driver);
+        }
+        for (WebDriver leaked : openSessions) {
+            discard(leaked);
+        }
+        BrowserContexts.shutdown();
+    }
+
+    /**
+     * Starts standby sessions in the background until driver.pool.prewarm sessions are idle or starting,
+     * as far as the pool size allows
+     */
+    private static synchronized void prewarm() {
+        while (!shuttingDown && idleDrivers.size() + warmingSessions.get() < PREWARM_SESSIONS && tryReserveSlot()) {
+            warmingSessions.incrementAndGet();
+            prewarmExecutor.execute(() -> {
+                try {
+                    WebDriver driver = createSession();
+                    if (shuttingDown) {
+                        discard(driver);
+                        return;
+                    }
+                    idleDrivers.offer(driver);
+                    System.out.println("✓ Pre-warmed WebDriver session ready (idle: " + idleDrivers.size() + ")");
+                } catch (RuntimeException e) {
+                    System.out.println("⚠️ Could not pre-warm WebDriver session: " + e.getMessage());
+                } finally {
+                    warmingSessions.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Liveness probe before an idle session is leased; a dead session is discarded and replaced in the background
+     * @return The session if it is alive, otherwise null
+     */
+    private static WebDriver probe(WebDriver driver) {
+        if (SessionSupervisor.isAlive(driver)) {
+            return driver;
+        }
+        System.out.println("⚠️ Idle WebDriver session is dead, discarding it");
+        discard(driver);
+        prewarm();
+        return null;
+    }
+
+    private static WebDriver lease(WebDriver driver) {
+        // Overlap the next session's startup with this test
+        prewarm();
+
+        // Sessions started before the first scenario accepted the banner get the consent cookies now
+        ConsentCookies.inject(driver);
+        int leases = leaseCounts.merge(driver, 1, Integer::sum);
+        if (leases > 1) {
+            System.out.println("♻️ Reusing pooled WebDriver session (lease " + leases + "/" + MAX_REUSE + ")");
+        }
+        return driver;
+    }
+
+    private static WebDriver createSession() {
+        try {
+            System.out.println("🚀 Starting new pooled WebDriver session (" + reservedSlots.get() + "/" + POOL_SIZE + ")");
+            WebDriver driver = TestUtils.initializeDriver();
+            openSessions.add(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            reservedSlots.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static boolean tryReserveSlot() {
+        while (true) {
+            int current = reservedSlots.get();
+            if (current >= POOL_SIZE) {
+                return false;
+            }
+            if (reservedSlots.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            Set<String> handles = BrowserContexts.windowHandles(driver);
+            if (handles.isEmpty()) {
+                return false;
+            }
+
+            // The current window may have been closed by the test (e.g. an application tab)
+            try {
+                driver.getWindowHandle();
+            } catch (Exception e) {
+                driver.switchTo().window(handles.iterator().next());
+            }
+
+            driver.getCurrentUrl();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void discard(WebDriver driver) {
+        if (!openSessions.remove(driver)) {
+            return;
+        }
+
+        leaseCounts.remove(driver);
+        reservedSlots.decrementAndGet();
+        try {
+            BrowserContexts.dispose(driver);
+            driver.quit();
+        } catch (Exception e) {
+            System.out.println("Warning: Could not quit WebDriver session cleanly: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package utils;
+
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers which alternative of a locator fallback chain matched for each logical element
+ * and persists it between runs, so the known-good fallback is tried right after the primary next time.
+ * A changed site costs one miss on the stale locator instead of a timeout per fallback on every run.
+ */
+public class LocatorCache {
+    private static final boolean ENABLED = TestUtils.getBooleanProperty("locator.cache.enabled", true);
+    private static final Path CACHE_FILE = Paths.get(TestUtils.getProperty("locator.cache.path", "target/locator-cache.properties"));
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            load();
+            Runtime.getRuntime().addShutdownHook(new Thread(LocatorCache::save, "locator-cache-save"));
+        }
+    }
+
+    private LocatorCache() {
+    }
+
+    /**
+     * Orders the candidates so the fallback that matched last time is tried right after the declared primary.
+     * The primary always stays first: a loose fallback that won once (e.g. before the page finished rendering)
+     * must not shadow the precise locator on later lookups.
+     * @param logicalName Stable name of the element, e.g. "home.insiderLogo"
+     * @param candidates Locator alternatives in their declared order, the primary first
+     * @return Candidates with the cached fallback moved to second place
+     */
+    public static List<By> order(String logicalName, By... candidates) {
+        List<By> ordered = new ArrayList<>(Arrays.asList(candidates));
+        Entry entry = ENABLED ? entries.get(logicalName) : null;
+        if (entry == null || entry.preferred == null) {
+            return ordered;
+        }
+
+        for (int i = 2; i < ordered.size(); i++) {
+            if (ordered.get(i).toString().equals(entry.preferred)) {
+                ordered.add(1, ordered.remove(i));
+                break;
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Records the locator that matched
+     * @param logicalName Stable name of the element
+     * @param matched The candidate that matched
+     * @param attempts Number of candidates tried, 1 means the primary locator matched
+     */
+    public static void recordMatch(String logicalName, By matched, int attempts) {
+        if (!ENABLED) {
+            return;
+        }
+        Entry entry = entries.computeIfAbsent(logicalName, key -> new Entry());
+        entry.hits.incrementAndGet();
+        if (attempts > 1) {
+            entry.fallbacks.incrementAndGet();
+        }
+        String previous = entry.preferred;
+        entry.preferred = matched.toString();
+        if (attempts > 1 && !entry.preferred.equals(previous)) {
+            System.out.println("♻️ Locator cache updated for '" + logicalName + "': " + matched);
+        }
+    }
+
+    /**
+     * Records that none of the candidates matched
+     */
+    public static void recordMiss(String logicalName) {
+        if (!ENABLED) {
+            return;
+        }
+        entries.computeIfAbsent(logicalName, key -> new Entry()).misses.incrementAndGet();
+    }
+
+    public static synchronized void save() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            if (entry.preferred != null) {
+                properties.setProperty(item.getKey() + ".preferred", entry.preferred);
+            }
+            properties.setProperty(item.getKey() + ".hits", String.valueOf(entry.hits.get()));
+            properties.setProperty(item.getKey() + ".fallbacks", String.valueOf(entry.fallbacks.get()));
+            properties.setProperty(item.getKey() + ".misses", String.valueOf(entry.misses.get()));
+        }
+
+        try {
+            if (CACHE_FILE.getParent() != null) {
+                Files.createDirectories(CACHE_FILE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(CACHE_FILE)) {
+                properties.store(out, "Locator fallback cache - preferred locator and match stats per logical element");
+            }
+        } catch (IOException e) {
+            System.out.println("Warning: Could not save locator cache: " + e.getMessage());
+        }
+    }
+
+    private static void load() {
+        if (!Files.exists(CACHE_FILE)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not load locator cache, starting empty: " + e.getMessage());
+            return;
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            int separator = key.lastIndexOf('.');
+            if (separator <= 0) {
+                continue;
+            }
+            Entry entry = entries.computeIfAbsent(key.substring(0, separator), name -> new Entry());
+            String value = properties.getProperty(key);
+            switch (key.substring(separator + 1)) {
+                case "preferred":
+                    entry.preferred = value;
+                    break;
+                case "hits":
+                    entry.hits.set(parseCount(value));
+                    break;
+                case "fallbacks":
+                    entry.fallbacks.set(parseCount(value));
+                    break;
+                case "misses":
+                    entry.misses.set(parseCount(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+        System.out.println("⚙️ Locator cache loaded: " + entries.size() + " elements from " + CACHE_FILE);
+    }
+
+    private static long parseCount(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static class Entry {
+        private volatile String preferred;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong fallbacks = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+    }
+}
@@ -0,0 +1,211 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Observed time-to-appear per page and locator, persisted between runs.
+ * Wait timeouts are derived from the p99 of the recent samples plus a margin,
+ * bounded by the caller's configured cap, so checks for absent elements fail fast
+ * instead of always waiting for the full hard-coded timeout. A locator that never appears has no samples to
+ * learn from, so misses of optional probes (e.g. a cookie banner that may already be gone) are counted as well:
+ * after adaptive.timeouts.absence.after misses in a row within this run, the optional probe is checked with the
+ * short absence timeout, with the full timeout on every tenth check, until it is found again. Required checks never
+ * use the absence timeout, and miss counts are not persisted, so one bad run cannot shorten the next one.
+ */
+public class LocatorTimings {
+    private static final boolean ENABLED = TestUtils.getBooleanProperty("adaptive.timeouts.enabled", true);
+    private static final Path TIMINGS_FILE = Paths.get(TestUtils.getProperty("adaptive.timeouts.path", "target/locator-timings.properties"));
+    private static final int MIN_SAMPLES = TestUtils.getIntProperty("adaptive.timeouts.min.samples", 5);
+    private static final int MAX_SAMPLES = 100;
+    private static final long MARGIN_MILLIS = TestUtils.getIntProperty("adaptive.timeouts.margin.ms", 500);
+    private static final long FLOOR_MILLIS = TestUtils.getIntProperty("adaptive.timeouts.floor.ms", 1000);
+    private static final int ABSENCE_AFTER = Math.max(1, TestUtils.getIntProperty("adaptive.timeouts.absence.after", 3));
+    private static final long ABSENCE_MILLIS = TestUtils.getIntProperty("adaptive.timeouts.absence.ms", 1000);
+    private static final int ABSENCE_REPROBE_EVERY = 10;
+
+    private static final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    // Consecutive timed-out optional probes per key in this run, reset by the first success
+    private static final Map<String, Integer> misses = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            load();
+            Runtime.getRuntime().addShutdownHook(new Thread(LocatorTimings::save, "locator-timings-save"));
+        }
+    }
+
+    private LocatorTimings() {
+    }
+
+    /**
+     * Records how long an element took to appear
+     * @param key Page, state and locator, e.g. "HomePage PRESENT By.cssSelector: nav"
+     * @param elapsedMillis Time from the start of the wait until the element was found
+     */
+    public static void record(String key, long elapsedMillis) {
+        if (!ENABLED) {
+            return;
+        }
+        samples.computeIfAbsent(key, k -> new Samples()).add(elapsedMillis);
+        Integer missed = misses.remove(key);
+        if (missed != null && missed >= ABSENCE_AFTER) {
+            System.out.println("⏱️ '" + key + "' found again after " + missed + " misses, absence timeout dropped");
+        }
+    }
+
+    /**
+     * Feeds a timed-out wait back. Misses of optional probes count toward the absence timeout. Until the locator
+     * counts as absent, a wait shorter than the cap also records twice the timeout it used, at most the cap, which
+     * backs a learned timeout that became too short off toward the cap; misses of an absent optional locator are
+     * expected and add no samples.
+     * @param key Page and locator
+     * @param used Timeout the wait ran with
+     * @param cap Configured upper bound for this wait
+     * @param optional True for probes whose element may legitimately be missing
+     */
+    public static void recordTimeout(String key, Duration used, Duration cap, boolean optional) {
+        if (!ENABLED) {
+            return;
+        }
+        if (optional) {
+            int missed = misses.merge(key, 1, Integer::sum);
+            if (missed == ABSENCE_AFTER) {
+                System.out.println("⏱️ Optional '" + key + "' missed " + missed + " times in a row, checking it with "
+                    + Math.min(ABSENCE_MILLIS, cap.toMillis()) + "ms from now on");
+            }
+            if (missed >= ABSENCE_AFTER) {
+                return;
+            }
+        }
+        if (used.compareTo(cap) >= 0) {
+            return;
+        }
+        long backedOff = Math.min(cap.toMillis(), used.toMillis() * 2);
+        samples.computeIfAbsent(key, k -> new Samples()).add(backedOff);
+        System.out.println("⏱️ Learned timeout " + used.toMillis() + "ms missed for '" + key + "', backing off to " + backedOff + "ms");
+    }
+
+    /**
+     * Timeout learned for a locator: p99 of the recent samples times 1.5 plus the margin,
+     * never below the floor and never above the cap. Returns the cap until enough samples exist.
+     * An optional probe that missed adaptive.timeouts.absence.after times in a row in this run gets the absence
+     * timeout instead, except on every tenth check, which still waits the learned timeout in case the element
+     * came back slower.
+     * @param key Page and locator
+     * @param cap Configured upper bound for this wait
+     * @param optional True for probes whose element may legitimately be missing
+     * @return Timeout to use for the next wait
+     */
+    public static Duration timeoutFor(String key, Duration cap, boolean optional) {
+        int missed = ENABLED && optional ? misses.getOrDefault(key, 0) : 0;
+        if (missed >= ABSENCE_AFTER && (missed - ABSENCE_AFTER + 1) % ABSENCE_REPROBE_EVERY != 0) {
+            return ABSENCE_MILLIS < cap.toMillis() ? Duration.ofMillis(ABSENCE_MILLIS) : cap;
+        }
+
+        Samples entry = ENABLED ? samples.get(key) : null;
+        if (entry == null) {
+            return cap;
+        }
+
+        long p99 = entry.percentile(99, MIN_SAMPLES);
+        if (p99 < 0) {
+            return cap;
+        }
+
+        long learned = Math.max(FLOOR_MILLIS, p99 + p99 / 2 + MARGIN_MILLIS);
+        return learned < cap.toMillis() ? Duration.ofMillis(learned) : cap;
+    }
+
+    public static synchronized void save() {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        for (Map.Entry<String, Samples> item : samples.entrySet()) {
+            properties.setProperty(item.getKey(), item.getValue().serialize());
+        }
+
+        try {
+            if (TIMINGS_FILE.getParent() != null) {
+                Files.createDirectories(TIMINGS_FILE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(TIMINGS_FILE)) {
+                properties.store(out, "Observed time-to-appear (ms) per page and locator, most recent last");
+            }
+        } catch (IOException e) {
+            System.out.println("Warning: Could not save locator timings: " + e.getMessage());
+        }
+    }
+
+    private static void load() {
+        if (!Files.exists(TIMINGS_FILE)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(TIMINGS_FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not load locator timings, starting empty: " + e.getMessage());
+            return;
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            Samples entry = new Samples();
+            for (String value : properties.getProperty(key).split(",")) {
+                try {
+                    entry.add(Long.parseLong(value.trim()));
+                } catch (NumberFormatException ignored) {
+                    // Skip corrupt sample
+                }
+            }
+            samples.put(key, entry);
+        }
+        System.out.println("⏱️ Locator timings loaded: " + samples.size() + " locators from " + TIMINGS_FILE);
+    }
+
+    private static class Samples {
+        private final Deque<Long> recent = new ArrayDeque<>();
+
+        synchronized void add(long millis) {
+            recent.addLast(millis);
+            if (recent.size() > MAX_SAMPLES) {
+                recent.removeFirst();
+            }
+        }
+
+        synchronized long percentile(int percentile, int minSamples) {
+            if (recent.size() < minSamples) {
+                return -1;
+            }
+            long[] sorted = recent.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        synchronized String serialize() {
+            StringBuilder builder = new StringBuilder();
+            for (Long millis : recent) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                builder.append(millis);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Small helper library that lives in the page as {@code window.__insiderHelpers}.
+ * It is registered once per driver through CDP {@code Page.addScriptToEvaluateOnNewDocument}, so every
+ * new document already has it. Helpers are then called by name, which sends only the
+ * name and the arguments instead of the whole script source on every call.
+ * Documents that lack the helpers get them injected on first use. This covers drivers without CDP,
+ * tabs opened by the page, and documents loaded before installation.
+ */
+public class PageHelpers {
+    private static final String MISSING = "__insider_helpers_missing__";
+
+    static final String SOURCE =
+        "(function() {" +
+        "  if (window.__insiderHelpers) { return; }" +
+        "  var isVisible = function(el) {" +
+        "    var rect = el.getBoundingClientRect(), style = window.getComputedStyle(el);" +
+        "    return rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden' && style.display !== 'none';" +
+        "  };" +
+        "  var findAll = function(spec) {" +
+        "    var nodes = [];" +
+        "    try {" +
+        "      if (spec[0] === 'xpath') {" +
+        "        var snapshot = document.evaluate(spec[1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "        for (var j = 0; j < snapshot.snapshotLength; j++) { nodes.push(snapshot.snapshotItem(j)); }" +
+        "      } else {" +
+        "        nodes = Array.prototype.slice.call(document.querySelectorAll(spec[1]));" +
+        "      }" +
+        "    } catch (e) { return []; }" +
+        "    return nodes.filter(function(node) { return node.nodeType === 1; });" +
+        "  };" +
+        "  var baselines = {};" +
+        "  var inState = function(el, state) {" +
+        "    return state === 'PRESENT'" +
+        "      || (state === 'VISIBLE' && isVisible(el))" +
+        "      || (state === 'CLICKABLE' && isVisible(el) && !el.disabled);" +
+        "  };" +
+        "  var helpers = {" +
+        "    isVisible: isVisible," +
+        "    findAll: findAll," +
+        "    findFirstOf: function(specs, state) {" +
+        "      for (var i = 0; i < specs.length; i++) {" +
+        "        var nodes = findAll(specs[i]);" +
+        "        for (var k = 0; k < nodes.length; k++) {" +
+        "          if (inState(nodes[k], state)) { return {index: i, element: nodes[k]}; }" +
+        "        }" +
+        "      }" +
+        "      return null;" +
+        "    }," +
+        "    checkManifest: function(entries) {" +
+        "      return entries.map(function(entry) {" +
+        "        var result = {present: false, visible: false, clickable: false, count: 0, matched: -1};" +
+        "        entry.specs.forEach(function(spec, i) {" +
+        "          findAll(spec).forEach(function(el) {" +
+        "            result.count++;" +
+        "            result.present = true;" +
+        "            if (isVisible(el)) { result.visible = true; if (!el.disabled) { result.clickable = true; } }" +
+        "            if (result.matched < 0 && inState(el, entry.state)) { result.matched = i; }" +
+        "          });" +
+        "        });" +
+        "        return result;" +
+        "      });" +
+        "    }," +
+        // Attributes are read like WebElement.getAttribute: the string property when there is one (resolved href), else the attribute
+        "    readElements: function(elements, fields, attributes) {" +
+        "      var wants = function(field) { return fields.indexOf(field) >= 0; };" +
+        "      return elements.map(function(el) {" +
+        "        var values = {};" +
+        "        if (wants('TEXT')) { values.text = (el.innerText || el.textContent || '').trim(); }" +
+        "        if (wants('ATTRIBUTES')) {" +
+        "          values.attributes = {};" +
+        "          attributes.forEach(function(name) {" +
+        "            var property = el[name];" +
+        "            values.attributes[name] = typeof property === 'string' ? property : el.getAttribute(name);" +
+        "          });" +
+        "        }" +
+        "        if (wants('RECT')) {" +
+        "          var rect = el.getBoundingClientRect();" +
+        "          values.rect = {x: rect.left + window.scrollX, y: rect.top + window.scrollY, width: rect.width, height: rect.height};" +
+        "        }" +
+        "        if (wants('DISPLAYED')) { values.displayed = isVisible(el); }" +
+        "        if (wants('ENABLED')) { values.enabled = !el.disabled; }" +
+        "        return values;" +
+        "      });" +
+        "    }," +
+        // Reads every job card in one call; QAJobsPage resolves the location fallbacks from the returned texts
+        "    extractJobCards: function(itemsXpath, alternativeXpath, titleCss, departmentCss, locationCss, locationFallbackCss) {" +
+        "      var textOf = function(el) { return (el.innerText || '').trim(); };" +
+        "      var firstText = function(card, css) {" +
+        "        var matches = card.querySelectorAll(css);" +
+        "        for (var i = 0; i < matches.length; i++) {" +
+        "          var text = textOf(matches[i]);" +
+        "          if (text && text !== 'Apply Now') { return text; }" +
+        "        }" +
+        "        return '';" +
+        "      };" +
+        "      var cards = findAll(['xpath', itemsXpath]);" +
+        "      if (cards.length === 0) { cards = findAll(['xpath', alternativeXpath]); }" +
+        "      return cards.map(function(card) {" +
+        "        var textCandidates = [];" +
+        "        card.querySelectorAll('*').forEach(function(el) {" +
+        "          for (var i = 0; i < el.childNodes.length; i++) {" +
+        "            var node = el.childNodes[i];" +
+        "            if (node.nodeType === 3 && node.textContent.trim()) { textCandidates.push(textOf(el)); break; }" +
+        "          }" +
+        "        });" +
+        "        return {" +
+        "          element: card," +
+        "          position: firstText(card, titleCss)," +
+        "          department: firstText(card, departmentCss)," +
+        "          location: firstText(card, locationCss)," +
+        "          locationCandidates: locationFallbackCss.map(function(css) {" +
+        "            return Array.prototype.map.call(card.querySelectorAll(css), textOf);" +
+        "          })," +
+        "          textCandidates: textCandidates," +
+        "          fullText: card.innerText || ''" +
+        "        };" +
+        "      });" +
+        "    }," +
+        "    click: function(el) { el.click(); }," +
+        "    scrollIntoView: function(el) { el.scrollIntoView({behavior: 'smooth', block: 'center'}); }," +
+        "    scrollToTop: function() { window.scrollTo(0, 0); }," +
+        "    scrollToBottom: function() { window.scrollTo(0, document.body.scrollHeight); }," +
+        "    isInViewport: function(el) {" +
+        "      var r = el.getBoundingClientRect();" +
+        "      return r.bottom > 0 && r.top < (window.innerHeight || document.documentElement.clientHeight);" +
+        "    }," +
+        "    readyState: function() { return document.readyState; }," +
+        "    jQueryState: function() {" +
+        "      if (typeof window.jQuery === 'undefined') { return 'absent'; }" +
+        "      return window.jQuery.active == 0 ? 'idle' : 'active';" +
+        "    }," +
+        "    readSelectOptions: function(id) {" +
+        "      var select = document.getElementById(id);" +
+        "      if (!select || !select.options) { return null; }" +
+        "      return Array.prototype.map.call(select.options, function(option) {" +
+        "        return {value: option.value, text: (option.text || '').trim(), selected: option.selected};" +
+        "      });" +
+        "    }," +
+        // Select2 re-renders from the jQuery change event; plain selects get a bubbling native change
+        "    selectOption: function(id, value) {" +
+        "      var select = document.getElementById(id);" +
+        "      if (!select) { return false; }" +
+        "      if (window.jQuery) {" +
+        "        window.jQuery(select).val(value).trigger('change');" +
+        "      } else {" +
+        "        select.value = value;" +
+        "        select.dispatchEvent(new Event('change', {bubbles: true}));" +
+        "      }" +
+        "      return select.value === value;" +
+        "    }," +
+        // Clears the document origin's web storage and IndexedDB databases; once every deletion finished,
+        // resolves with what the origin still holds (-1 where it cannot be read)
+        "    clearStorage: function(done) {" +
+        "      try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}" +
+        "      var report = function() {" +
+        "        var left = {localStorage: -1, sessionStorage: -1, indexedDb: -1};" +
+        "        try { left.localStorage = window.localStorage.length; left.sessionStorage = window.sessionStorage.length; } catch (e) {}" +
+        "        if (!window.indexedDB || !window.indexedDB.databases) { done(left); return; }" +
+        "        window.indexedDB.databases().then(function(databases) {" +
+        "          left.indexedDb = databases.length; done(left);" +
+        "        }).catch(function() { done(left); });" +
+        "      };" +
+        "      if (!window.indexedDB || !window.indexedDB.databases) { report(); return; }" +
+        "      window.indexedDB.databases().then(function(databases) {" +
+        "        var pending = databases.length;" +
+        "        if (pending === 0) { report(); return; }" +
+        "        databases.forEach(function(database) {" +
+        "          var request = window.indexedDB.deleteDatabase(database.name);" +
+        "          request.onsuccess = request.onerror = request.onblocked = function() {" +
+        "            if (--pending === 0) { report(); }" +
+        "          };" +
+        "        });" +
+        "      }).catch(report);" +
+        "    }," +
+        "    markBaseline: function(spec) {" +
+        "      var target = findAll(spec)[0];" +
+        "      baselines[spec.join(':')] = target ? Array.prototype.slice.call(target.children) : [];" +
+        "    }," +
+        // The quiet window only counts once a re-render started: a mutation, or a child marked by markBaseline
+        // that is gone already. With no change within startMs there is nothing to wait for; hard stop at timeoutMs
+        "    waitForQuiescence: function(spec, quietMs, startMs, timeoutMs, done) {" +
+        "      var target = findAll(spec)[0], baseline = baselines[spec.join(':')];" +
+        "      delete baselines[spec.join(':')];" +
+        "      if (!target) { done({found: false, started: false, settled: false, mutations: 0}); return; }" +
+        "      var mutations = 0, started = false, quietTimer, startTimer, deadlineTimer, observer;" +
+        "      var finish = function(settled) {" +
+        "        observer.disconnect(); clearTimeout(quietTimer); clearTimeout(startTimer); clearTimeout(deadlineTimer);" +
+        "        done({found: true, started: started, settled: settled, mutations: mutations});" +
+        "      };" +
+        "      var restartQuietWindow = function() {" +
+        "        started = true;" +
+        "        clearTimeout(startTimer); clearTimeout(quietTimer);" +
+        "        quietTimer = setTimeout(function() { finish(true); }, quietMs);" +
+        "      };" +
+        "      observer = new MutationObserver(function(records) {" +
+        "        mutations += records.length;" +
+        "        restartQuietWindow();" +
+        "      });" +
+        "      observer.observe(target, {childList: true, subtree: true, attributes: true, characterData: true});" +
+        "      if (baseline && baseline.some(function(node) { return !node.isConnected; })) {" +
+        "        restartQuietWindow();" +
+        "      } else {" +
+        "        startTimer = setTimeout(function() { finish(true); }, startMs);" +
+        "      }" +
+        "      deadlineTimer = setTimeout(function() { finish(false); }, timeoutMs);" +
+        "    }" +
+        "  };" +
+        "  Object.defineProperty(window, '__insiderHelpers', {value: helpers, configurable: true});" +
+        "})();";
+
+    private static final String CALL_SCRIPT =
+        "var helpers = window.__insiderHelpers;" +
+        "if (!helpers) { return '" + MISSING + "'; }" +
+        "return helpers[arguments[0]].apply(null, arguments[1]);";
+
+    private static final String CALL_ASYNC_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var helpers = window.__insiderHelpers;" +
+        "if (!helpers) { done('" + MISSING + "'); return; }" +
+        "helpers[arguments[0]].apply(null, arguments[1].concat([done]));";
+
+    private static final Set<WebDriver> registered = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private PageHelpers() {
+    }
+
+    /**
+     * Registers the helpers for every new document of the driver via CDP.
+     * Drivers without CDP (Firefox) rely on the inject-on-first-use fallback.
+     */
+    public static void install(WebDriver driver) {
+        if (!(driver instanceof HasCdp) || registered.contains(driver)) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Collections.singletonMap("source", SOURCE));
+            registered.add(driver);
+            System.out.println("⚙️ Page helpers registered for new documents");
+        } catch (WebDriverException e) {
+            System.out.println("Warning: Could not register page helpers via CDP, injecting on demand: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks a session whose helpers registration was lost (e.g. its window was replaced), so {@link #install(WebDriver)}
+     * registers them again
+     */
+    public static void forget(WebDriver driver) {
+        registered.remove(driver);
+    }
+
+    /**
+     * Calls a helper by name in the current document, injecting the library first if the document lacks it
+     * @param driver Driver whose current document runs the helper
+     * @param helper Helper name, e.g. "findFirstOf"
+     * @param args Helper arguments; elements and lists are passed through as with executeScript
+     * @return Helper result converted as executeScript would
+     */
+    public static Object call(WebDriver driver, String helper, Object... args) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        Object result = executor.executeScript(CALL_SCRIPT, helper, Arrays.asList(args));
+        if (MISSING.equals(result)) {
+            executor.executeScript(SOURCE);
+            result = executor.executeScript(CALL_SCRIPT, helper, Arrays.asList(args));
+        }
+        return result;
+    }
+
+    /**
+     * Calls an asynchronous helper, which receives the completion callback as its last argument
+     */
+    public static Object callAsync(WebDriver driver, String helper, Object... args) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        Object result = executor.executeAsyncScript(CALL_ASYNC_SCRIPT, helper, Arrays.asList(args));
+        if (MISSING.equals(result)) {
+            executor.executeScript(SOURCE);
+            result = executor.executeAsyncScript(CALL_ASYNC_SCRIPT, helper, Arrays.asList(args));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+package utils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides how long a wait sleeps before its next poll.
+ * The default is an exponential backoff: fast conditions are seen after the first short poll,
+ * long waits send far fewer commands to the driver than a fixed interval would.
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+    /**
+     * @param pollNumber 1 for the delay after the first failed check, 2 for the second, ...
+     * @return Delay before the next check
+     */
+    Duration delayBeforePoll(int pollNumber);
+
+    static PollingStrategy fixed(Duration interval) {
+        return pollNumber -> interval;
+    }
+
+    /**
+     * @param initial Delay after the first failed check
+     * @param multiplier Growth factor per poll
+     * @param max Upper bound of a single delay
+     * @param jitter Random spread as a fraction of the delay (0.2 = +/-20%), 0 for none
+     */
+    static PollingStrategy exponential(Duration initial, double multiplier, Duration max, double jitter) {
+        long initialMillis = Math.max(1, initial.toMillis());
+        long maxMillis = Math.max(initialMillis, max.toMillis());
+        return pollNumber -> {
+            double delay = initialMillis * Math.pow(multiplier, Math.max(0, pollNumber - 1));
+            long millis = (long) Math.min(delay, maxMillis);
+            if (jitter > 0) {
+                double spread = millis * jitter;
+                millis += (long) ThreadLocalRandom.current().nextDouble(-spread, spread);
+            }
+            return Duration.ofMillis(Math.max(1, millis));
+        };
+    }
+
+    /**
+     * Exponential backoff configured with polling.initial.ms, polling.multiplier, polling.max.ms and polling.jitter
+     */
+    static PollingStrategy fromConfig() {
+        double multiplier;
+        double jitter;
+        try {
+            multiplier = Double.parseDouble(TestUtils.getProperty("polling.multiplier", "2.0"));
+            jitter = Double.parseDouble(TestUtils.getProperty("polling.jitter", "0.2"));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid polling.multiplier or polling.jitter value: " + e.getMessage());
+        }
+        return exponential(
+            Duration.ofMillis(TestUtils.getIntProperty("polling.initial.ms", 50)),
+            multiplier,
+            Duration.ofMillis(TestUtils.getIntProperty("polling.max.ms", 1000)),
+            jitter);
+    }
+}
@@ -0,0 +1,208 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Returns a used session to a clean state in place, so the next test can reuse it instead of
+ * launching a new browser. A session running in its own browser context (driver.isolation=context) gets a
+ * new context and the old one is disposed, a constant number of calls. Other sessions have their used windows
+ * replaced by one blank window and cookies, localStorage, sessionStorage and IndexedDB cleared; the first-party
+ * origins a window visited are collected before it is closed (Chrome and Edge: its navigation history, through
+ * CDP; other browsers: the current document) and verified to be empty afterwards.
+ */
+public class SessionReset {
+    private static final boolean ENABLED = TestUtils.getBooleanProperty("session.reset.enabled", true);
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CDP_STORAGE_TYPES = "local_storage,indexeddb,websql,service_workers,cache_storage";
+    // Quota-managed storage that CDP can measure per origin without a document of that origin
+    private static final List<String> CDP_VERIFIED_STORAGE_TYPES = Arrays.asList("indexeddb", "cache_storage", "service_workers");
+
+    private SessionReset() {
+    }
+
+    /**
+     * Resets the session and verifies it is clean
+     * @param driver Session that finished a test
+     * @return true if the session is clean and can be reused; false if it should be discarded
+     */
+    public static boolean reset(WebDriver driver) {
+        if (!ENABLED) {
+            return true;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            List<String> leftovers = new ArrayList<>();
+            boolean contextRenewed = BrowserContexts.renewContext(driver);
+            if (!contextRenewed) {
+                clearWindows(driver, origins, leftovers);
+            }
+            // The new window does not carry the helpers registration of the old ones
+            PageHelpers.forget(driver);
+            PageHelpers.install(driver);
+            // Consent cookies went with the rest, the next lease injects them again
+            ConsentCookies.forget(driver);
+
+            leftovers.addAll(findLeftovers(driver, origins));
+            if (!leftovers.isEmpty()) {
+                System.out.println("⚠️ Session reset incomplete (" + String.join(", ", leftovers) + ")");
+                return false;
+            }
+            System.out.println("♻️ Session reset in " + (System.currentTimeMillis() - start) + "ms ("
+                + (contextRenewed ? "browser context replaced" : origins.size() + " origins cleared") + ")");
+            return true;
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the used windows by one blank window, then clears cookies and the storage of every origin they visited
+     */
+    private static void clearWindows(WebDriver driver, Set<String> origins, List<String> leftovers) {
+        Set<String> usedWindows = BrowserContexts.windowHandles(driver);
+
+        // sessionStorage belongs to a window and only goes away with it, so the used windows are replaced
+        String blankWindow = BrowserContexts.openWindow(driver);
+        for (String handle : usedWindows) {
+            driver.switchTo().window(handle);
+            clearWindow(driver, origins, leftovers);
+            driver.close();
+        }
+        driver.switchTo().window(blankWindow);
+
+        // No document of the visited origins is left that could write to them again while they are cleared
+        if (driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            for (String origin : origins) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("origin", origin);
+                params.put("storageTypes", CDP_STORAGE_TYPES);
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", params);
+            }
+            // Cookies of every domain, third parties included, in one call
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Collects the origins the current window visited, then clears cookies and storage of its current document
+     * and records what that document's origin still holds
+     */
+    private static void clearWindow(WebDriver driver, Set<String> origins, List<String> leftovers) {
+        collectVisitedOrigins(driver, origins);
+
+        String origin = originOf(driver.getCurrentUrl());
+        if (origin == null) {
+            return;
+        }
+        Object left = PageHelpers.callAsync(driver, "clearStorage");
+        if (left instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) left).entrySet()) {
+                if (entry.getValue() instanceof Number && ((Number) entry.getValue()).longValue() > 0) {
+                    leftovers.add(origin + " " + entry.getKey() + ": " + entry.getValue());
+                }
+            }
+        }
+        driver.manage().deleteAllCookies();
+    }
+
+    /**
+     * Adds the first-party origins of the window: its current document and, through CDP, every entry
+     * of its navigation history
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectVisitedOrigins(WebDriver driver, Set<String> origins) {
+        addOrigin(origins, driver.getCurrentUrl());
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+
+        try {
+            List<Map<String, Object>> entries = (List<Map<String, Object>>) ((HasCdp) driver).executeCdpCommand(
+                "Page.getNavigationHistory", Collections.emptyMap()).get("entries");
+            for (Map<String, Object> entry : entries) {
+                addOrigin(origins, String.valueOf(entry.get("url")));
+            }
+        } catch (WebDriverException e) {
+            System.out.println("Warning: Could not read the window's navigation history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Verifies the session after the reset: one blank window, no cookies, and no IndexedDB, Cache Storage or
+     * service worker data left for the cleared first-party origins. localStorage is verified in each document
+     * while it is cleared; once its last document is closed nothing can write to it before the CDP clear.
+     * @return Descriptions of what is left over, empty if the session is clean
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> findLeftovers(WebDriver driver, Set<String> origins) {
+        List<String> leftovers = new ArrayList<>();
+        int windows = BrowserContexts.windowHandles(driver).size();
+        if (windows != 1) {
+            leftovers.add(windows + " windows open");
+        }
+        String url = driver.getCurrentUrl();
+        if (!BLANK_PAGE.equals(url)) {
+            leftovers.add("still on " + url);
+        }
+        if (!(driver instanceof HasCdp)) {
+            return leftovers;
+        }
+
+        HasCdp cdp = (HasCdp) driver;
+        List<Object> cookies = (List<Object>) cdp.executeCdpCommand(
+            "Network.getAllCookies", Collections.emptyMap()).get("cookies");
+        if (!cookies.isEmpty()) {
+            leftovers.add(cookies.size() + " cookies left");
+        }
+        for (String origin : origins) {
+            List<Map<String, Object>> breakdown = (List<Map<String, Object>>) cdp.executeCdpCommand(
+                "Storage.getUsageAndQuota", Collections.singletonMap("origin", origin)).get("usageBreakdown");
+            if (breakdown == null) {
+                continue;
+            }
+            for (Map<String, Object> usage : breakdown) {
+                Object bytes = usage.get("usage");
+                if (CDP_VERIFIED_STORAGE_TYPES.contains(usage.get("storageType"))
+                    && bytes instanceof Number && ((Number) bytes).longValue() > 0) {
+                    leftovers.add(origin + " " + usage.get("storageType") + ": " + bytes + " bytes");
+                }
+            }
+        }
+        return leftovers;
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        String origin = originOf(url);
+        if (origin != null) {
+            origins.add(origin);
+        }
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
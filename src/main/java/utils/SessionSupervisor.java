@@ -0,0 +1,229 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps pooled sessions healthy over long suites:
+ * recycles a session after driver.pool.max.reuse tests or once the JS heap of its windows exceeds
+ * session.recycle.js.heap.mb,
+ * probes every idle session before it is leased, and retries a scenario on a fresh session when its browser died
+ * mid-test (crashed tab, dead driver, lost session). Whether a failed test lost its browser is decided by probing
+ * the session it leased ({@link #watch(WebDriver)}), since page objects often report a dead browser as an ordinary
+ * step failure. Such failures are reported as session failures, not as scenario failures, and the dead session is
+ * discarded when the test releases it.
+ * Registered as a TestNG listener, it attaches the retry analyzer to every test.
+ */
+public class SessionSupervisor implements IAnnotationTransformer {
+    private static final int MAX_JS_HEAP_MB = TestUtils.getIntProperty("session.recycle.js.heap.mb", 512);
+    private static final int RESPAWN_RETRIES = TestUtils.getIntProperty("session.respawn.retries", 1);
+    private static final String[] SESSION_DEATH_MESSAGES = {
+        "tab crashed", "target crashed", "chrome not reachable", "browser has closed the connection",
+        "session deleted", "disconnected: not connected to devtools"
+    };
+
+    private static final String SESSION_DIED_ATTRIBUTE = "sessionDied";
+
+    private static final AtomicInteger respawns = new AtomicInteger();
+    // Session leased by the test running on each thread; the retry analyzer runs on the test's thread
+    private static final ThreadLocal<WebDriver> watchedSessions = new ThreadLocal<>();
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        // TestNG reports "no analyzer" as one of its own classes, whose name differs between versions;
+        // analyzers declared by the project are kept
+        Class<? extends IRetryAnalyzer> current = annotation.getRetryAnalyzerClass();
+        if (RESPAWN_RETRIES > 0 && (current == null || current.getName().startsWith("org.testng."))) {
+            annotation.setRetryAnalyzer(RetryOnSessionDeath.class);
+        }
+    }
+
+    /**
+     * Cheap liveness probe for a session: one script round trip, which fails for dead drivers and crashed tabs
+     * @return true if the session still answers
+     */
+    public static boolean isAlive(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript("return 1;");
+            return true;
+        } catch (NoSuchWindowException e) {
+            // The test closed its current window (e.g. an application tab); the session itself may still answer
+            return hasWindows(driver);
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Liveness probe failed: " + firstLine(e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Called before the session is reset, while the windows the test opened still exist
+     * @param driver Session being released
+     * @param leases Tests the session has served so far
+     * @param maxReuse Tests a session may serve before it is retired (driver.pool.max.reuse)
+     * @return Why the session should be recycled, or null if it can be reused
+     */
+    public static String recycleReason(WebDriver driver, int leases, int maxReuse) {
+        if (leases >= maxReuse) {
+            return "served " + leases + " tests (max " + maxReuse + ")";
+        }
+        if (MAX_JS_HEAP_MB > 0) {
+            long heapMb = jsHeapMb(driver);
+            if (heapMb > MAX_JS_HEAP_MB) {
+                return "JS heap " + heapMb + "MB across its windows (max " + MAX_JS_HEAP_MB + "MB)";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the failure means the browser session itself died, as opposed to a failed scenario step
+     */
+    public static boolean isSessionDeath(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchSessionException || cause instanceof UnreachableBrowserException) {
+                return true;
+            }
+            if (cause instanceof WebDriverException && cause.getMessage() != null) {
+                String message = cause.getMessage().toLowerCase(Locale.ROOT);
+                for (String deathMessage : SESSION_DEATH_MESSAGES) {
+                    if (message.contains(deathMessage)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decides whether a failed test lost its browser session: by the failure itself, else by probing the session
+     * the test leased. The verdict is kept on the result, so the session is probed at most once per failure.
+     * @param result Result of a finished test, on the thread that ran it
+     * @return true if the test failed and its browser session is dead
+     */
+    public static boolean isSessionDeath(ITestResult result) {
+        Object verdict = result.getAttribute(SESSION_DIED_ATTRIBUTE);
+        if (verdict instanceof Boolean) {
+            return (Boolean) verdict;
+        }
+
+        boolean died = false;
+        if (result.getStatus() == ITestResult.FAILURE) {
+            WebDriver driver = watchedSessions.get();
+            died = isSessionDeath(result.getThrowable()) || (driver != null && !isAlive(driver));
+        }
+        result.setAttribute(SESSION_DIED_ATTRIBUTE, died);
+        return died;
+    }
+
+    /**
+     * Registers the session leased by the test running on the current thread, so a failure can be checked against it
+     */
+    public static void watch(WebDriver driver) {
+        watchedSessions.set(driver);
+    }
+
+    /**
+     * Forgets the current thread's session once the test released it
+     */
+    public static void unwatch() {
+        watchedSessions.remove();
+    }
+
+    /**
+     * @return Number of scenarios retried on a fresh session so far
+     */
+    public static int getRespawnCount() {
+        return respawns.get();
+    }
+
+    /**
+     * Allocated JS heap summed over every window of the session, via CDP on each window in turn; 0 when unavailable
+     * (e.g. Firefox). This is the page heap only: renderer and browser process memory outside the JS heap is not
+     * visible over WebDriver and is covered by driver.pool.max.reuse instead.
+     */
+    private static long jsHeapMb(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return 0;
+        }
+        String original = null;
+        long totalBytes = 0;
+        try {
+            try {
+                original = driver.getWindowHandle();
+            } catch (NoSuchWindowException e) {
+                // The test closed its current window; sample the remaining ones
+            }
+            for (String handle : BrowserContexts.windowHandles(driver)) {
+                driver.switchTo().window(handle);
+                Map<String, Object> usage = ((HasCdp) driver).executeCdpCommand("Runtime.getHeapUsage", Collections.emptyMap());
+                Object total = usage.get("totalSize");
+                if (total instanceof Number) {
+                    totalBytes += ((Number) total).longValue();
+                }
+            }
+            if (original != null) {
+                driver.switchTo().window(original);
+            }
+        } catch (WebDriverException e) {
+            // Unsampled windows count as 0; the health check after this decides whether the session is usable
+        }
+        return totalBytes / (1024 * 1024);
+    }
+
+    private static boolean hasWindows(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            System.out.println("⚠️ Liveness probe failed: " + firstLine(e.getMessage()));
+            return false;
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "unknown error";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    /**
+     * Retries a scenario whose browser session died, up to session.respawn.retries times.
+     * The next attempt leases a fresh session, since the dead one fails the pool's health check on release.
+     * Ordinary assertion and step failures are never retried.
+     */
+    public static class RetryOnSessionDeath implements IRetryAnalyzer {
+        private int attempts;
+
+        @Override
+        public boolean retry(ITestResult result) {
+            if (attempts >= RESPAWN_RETRIES || !isSessionDeath(result)) {
+                return false;
+            }
+            attempts++;
+            respawns.incrementAndGet();
+            System.out.println("♻️ Browser session died during " + result.getMethod().getMethodName()
+                + " (" + firstLine(result.getThrowable().getMessage()) + ") - session failure, not a scenario failure."
+                + " Retrying on a fresh session (" + attempts + "/" + RESPAWN_RETRIES + ")");
+            return true;
+        }
+    }
+}
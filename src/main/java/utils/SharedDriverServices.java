@@ -0,0 +1,87 @@
+package utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One long-lived driver process (chromedriver, msedgedriver) per browser type for the whole JVM.
+ * Sessions are created against its URL instead of spawning and tearing down a driver process per session;
+ * quitting a session only ends the browser. The processes are stopped by the {@link DriverPool} shutdown hook,
+ * after the pool's sessions have ended.
+ * Firefox is not shared: geckodriver serves a single session per process.
+ */
+public class SharedDriverServices {
+    private static final Map<String, DriverService> services = new ConcurrentHashMap<>();
+
+    private SharedDriverServices() {
+    }
+
+    /**
+     * @return true if sessions of this browser can share one driver process
+     */
+    public static boolean supports(String browser) {
+        return "chrome".equals(browser) || "edge".equals(browser);
+    }
+
+    /**
+     * Creates a session against the shared driver process of the browser, starting the process on first use.
+     * The session is augmented so CDP stays available as with a locally started driver.
+     * @param browser chrome or edge
+     * @param options Browser options of the new session
+     */
+    public static WebDriver newSession(String browser, Capabilities options) {
+        DriverService service = services.computeIfAbsent(browser, SharedDriverServices::start);
+        return new Augmenter().augment(new RemoteWebDriver(service.getUrl(), options));
+    }
+
+    /**
+     * Stops the shared process of a browser, e.g. after its driver binary was replaced; the next session starts a new one
+     */
+    public static void stop(String browser) {
+        DriverService service = services.remove(browser);
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    public static void stopAll() {
+        for (String browser : services.keySet()) {
+            try {
+                stop(browser);
+            } catch (Exception e) {
+                System.out.println("Warning: Could not stop " + browser + " driver service: " + e.getMessage());
+            }
+        }
+    }
+
+    private static DriverService start(String browser) {
+        DriverService service;
+        switch (browser) {
+            case "chrome":
+                service = new ChromeDriverService.Builder().usingAnyFreePort().build();
+                break;
+            case "edge":
+                service = new EdgeDriverService.Builder().usingAnyFreePort().build();
+                break;
+            default:
+                throw new IllegalArgumentException("Shared driver service not supported for: " + browser);
+        }
+
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start shared " + browser + " driver service: " + e.getMessage(), e);
+        }
+        System.out.println("🚀 Shared " + browser + " driver service started at " + service.getUrl());
+        return service;
+    }
+}
@@ -0,0 +1,195 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Real URLs of navigation targets (e.g. "careers"), persisted between runs. A scenario that only needs
+ * to reach a page opens the known URL directly; the hover menu is only exercised by the scenario that tests the menu.
+ * URLs come from two sources: pages a scenario actually landed on (verified), and hrefs read from the
+ * site's links. A URL verified in this run wins over links; a visited URL from an earlier run is dropped
+ * once the site's link points elsewhere, or once navigating to it fails.
+ */
+public class SiteMap {
+    private static final boolean ENABLED = TestUtils.getBooleanProperty("site.map.enabled", true);
+    private static final Path SITE_MAP_FILE = Paths.get(TestUtils.getProperty("site.map.path", "target/site-map.properties"));
+    private static final String VISITED_PREFIX = "visited.";
+    private static final String LINK_PREFIX = "link.";
+
+    private static final Map<String, String> visited = new ConcurrentHashMap<>();
+    private static final Map<String, String> links = new ConcurrentHashMap<>();
+    // Targets whose visited URL was confirmed in this run; a link read now cannot replace those
+    private static final Set<String> visitedThisRun = ConcurrentHashMap.newKeySet();
+
+    static {
+        if (ENABLED) {
+            load();
+            Runtime.getRuntime().addShutdownHook(new Thread(SiteMap::save, "site-map-save"));
+        }
+    }
+
+    private SiteMap() {
+    }
+
+    /**
+     * @param target Navigation target, e.g. "careers"
+     * @param fallbackUrl Configured URL used until the target has been resolved from the site
+     * @return The URL a scenario landed on for the target, else the URL read from the site's link, else the fallback
+     */
+    public static String urlFor(String target, String fallbackUrl) {
+        if (!ENABLED) {
+            return fallbackUrl;
+        }
+        String url = visited.get(target);
+        if (url == null) {
+            url = links.get(target);
+        }
+        return url != null ? url : fallbackUrl;
+    }
+
+    /**
+     * Records the URL a scenario actually landed on for a target, after redirects; this is the verified URL
+     * @param target Navigation target
+     * @param url Absolute URL of the page reached, without query or fragment
+     */
+    public static void recordVisited(String target, String url) {
+        if (!ENABLED || url == null || url.isEmpty()) {
+            return;
+        }
+        visitedThisRun.add(target);
+        String previous = visited.put(target, url);
+        if (!url.equals(previous)) {
+            System.out.println("♻️ Site map updated for '" + target + "': " + url + " (visited)");
+        }
+    }
+
+    /**
+     * Records the href a site link gives for a target. A visited URL from an earlier run that the link no longer
+     * points to is dropped, so the fresh link is used instead.
+     * @param target Navigation target
+     * @param url Absolute URL taken from the site's link
+     */
+    public static void recordLink(String target, String url) {
+        if (!ENABLED || url == null || url.isEmpty()) {
+            return;
+        }
+        String previous = links.put(target, url);
+        String visitedUrl = visited.get(target);
+        if (visitedUrl != null) {
+            if (!visitedThisRun.contains(target) && !samePage(visitedUrl, url)) {
+                visited.remove(target, visitedUrl);
+                System.out.println("♻️ Site map link for '" + target + "' now points to " + url
+                    + ", dropping visited " + visitedUrl);
+            }
+            return;
+        }
+        if (!url.equals(previous)) {
+            System.out.println("♻️ Site map updated for '" + target + "': " + url + " (link)");
+        }
+    }
+
+    /**
+     * @return true if the URL is the page the site's link for the target points to
+     */
+    public static boolean matchesLink(String target, String url) {
+        String link = links.get(target);
+        return link != null && url != null && samePage(link, url);
+    }
+
+    /**
+     * Drops a visited URL after navigating to it failed verification, so the link or fallback is used instead
+     * @param target Navigation target
+     * @param url URL that failed
+     * @return true if the URL was the target's visited URL and has been dropped
+     */
+    public static boolean forgetVisited(String target, String url) {
+        if (!ENABLED || url == null || !visited.remove(target, url)) {
+            return false;
+        }
+        visitedThisRun.remove(target);
+        System.out.println("♻️ Site map dropped visited URL for '" + target + "': " + url);
+        return true;
+    }
+
+    /**
+     * @param url Any URL of a page, e.g. a filtered listing
+     * @return The URL without query and fragment, as recorded for a navigation target
+     */
+    public static String pageUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        int end = url.length();
+        int query = url.indexOf('?');
+        int fragment = url.indexOf('#');
+        if (query >= 0) {
+            end = query;
+        }
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        return url.substring(0, end);
+    }
+
+    private static boolean samePage(String first, String second) {
+        return trimSlash(pageUrl(first)).equalsIgnoreCase(trimSlash(pageUrl(second)));
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public static synchronized void save() {
+        if (visited.isEmpty() && links.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        visited.forEach((target, url) -> properties.setProperty(VISITED_PREFIX + target, url));
+        links.forEach((target, url) -> properties.setProperty(LINK_PREFIX + target, url));
+
+        try {
+            if (SITE_MAP_FILE.getParent() != null) {
+                Files.createDirectories(SITE_MAP_FILE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(SITE_MAP_FILE)) {
+                properties.store(out, "Site map - visited (verified) and link URL per navigation target");
+            }
+        } catch (IOException e) {
+            System.out.println("Warning: Could not save site map: " + e.getMessage());
+        }
+    }
+
+    private static void load() {
+        if (!Files.exists(SITE_MAP_FILE)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(SITE_MAP_FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not load site map, starting empty: " + e.getMessage());
+            return;
+        }
+
+        for (String key : properties.stringPropertyNames()) {
+            String url = properties.getProperty(key);
+            if (key.startsWith(VISITED_PREFIX)) {
+                visited.put(key.substring(VISITED_PREFIX.length()), url);
+            } else if (key.startsWith(LINK_PREFIX)) {
+                links.put(key.substring(LINK_PREFIX.length()), url);
+            }
+        }
+        System.out.println("⚙️ Site map loaded: " + visited.size() + " visited and " + links.size()
+            + " link targets from " + SITE_MAP_FILE);
+    }
+}
@@ -0,0 +1,36 @@
+package utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies execution settings from config.properties to the TestNG suite before it runs,
+ * so parallel mode and thread count can be tuned without editing testng.xml.
+ */
+public class SuiteConfigurationListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String parallelMode = TestUtils.getProperty("parallel.mode");
+        int threadCount = TestUtils.getIntProperty("parallel.thread.count", 0);
+
+        for (XmlSuite suite : suites) {
+            if (parallelMode != null && !parallelMode.trim().isEmpty()) {
+                XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(parallelMode.trim().toLowerCase());
+                if (mode == null) {
+                    throw new IllegalArgumentException("Parallel mode not supported: " + parallelMode);
+                }
+                suite.setParallel(mode);
+            }
+
+            if (threadCount > 0) {
+                suite.setThreadCount(threadCount);
+            }
+
+            System.out.println("⚙️ Suite '" + suite.getName() + "' parallel mode: " + suite.getParallel()
+                + ", threads: " + suite.getThreadCount());
+        }
+    }
+}
@@ -1,30 +1,35 @@
 package utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.firefox.FirefoxOptions;
 import org.testng.Assert;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
 import java.time.Duration;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TestUtils {
     private static Properties properties;
     private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
+    private static final DateTimeFormatter ARTIFACT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final AtomicInteger artifactSequence = new AtomicInteger();
     
     static {
         loadProperties();
@@ -44,14 +49,54 @@ public class TestUtils {
     public static String getProperty(String key) {
         return properties.getProperty(key);
     }
-    
+
+    public static String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid integer value for property '" + key + "': " + value);
+        }
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
     public static WebDriver initializeDriver() {
         String browserName = getProperty("browser").toLowerCase();
         WebDriver driver;
+        try {
+            driver = createDriver(browserName);
+        } catch (SessionNotCreatedException e) {
+            // Typically a locked driver that no longer matches an updated browser
+            DriverBinaryResolver.recoverFromMismatch(browserName, e);
+            SharedDriverServices.stop(browserName);
+            driver = createDriver(browserName);
+        }
+        
+        configureDriver(driver);
+        return driver;
+    }
+    
+    private static WebDriver createDriver(String browserName) {
+        // Resolved once per JVM, later calls return immediately
+        DriverBinaryResolver.resolve(browserName);
         
         switch (browserName) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
                 ChromeOptions chromeOptions = new ChromeOptions();
                 
                 if (Boolean.parseBoolean(getProperty("headless"))) {
@@ -63,26 +108,59 @@ public class TestUtils {
                 chromeOptions.addArguments("--no-sandbox");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
                 chromeOptions.addArguments("--remote-allow-origins=*");
+                chromeOptions.setPageLoadStrategy(getPageLoadStrategy());
                 
-                driver = new ChromeDriver(chromeOptions);
-                break;
+                return useBrowserContexts(browserName)
+                    ? BrowserContexts.openContext(browserName, chromeOptions, options -> startChromiumSession(browserName, options))
+                    : startChromiumSession(browserName, chromeOptions);
                 
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                break;
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.setPageLoadStrategy(getPageLoadStrategy());
+                return new FirefoxDriver(firefoxOptions);
                 
             case "edge":
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                break;
+                EdgeOptions edgeOptions = new EdgeOptions();
+                edgeOptions.setPageLoadStrategy(getPageLoadStrategy());
+                return useBrowserContexts(browserName)
+                    ? BrowserContexts.openContext(browserName, edgeOptions, options -> startChromiumSession(browserName, options))
+                    : startChromiumSession(browserName, edgeOptions);
                 
             default:
                 throw new IllegalArgumentException("Browser not supported: " + browserName);
         }
-        
-        configureDriver(driver);
-        return driver;
+    }
+    
+    private static WebDriver startChromiumSession(String browserName, ChromiumOptions<?> options) {
+        if (useSharedDriverService(browserName)) {
+            return SharedDriverServices.newSession(browserName, options);
+        }
+        return "edge".equals(browserName) ? new EdgeDriver((EdgeOptions) options) : new ChromeDriver((ChromeOptions) options);
+    }
+    
+    private static boolean useSharedDriverService(String browserName) {
+        return getBooleanProperty("driver.service.shared", true) && SharedDriverServices.supports(browserName);
+    }
+    
+    /**
+     * session (default): every WebDriver session gets its own browser;
+     * context: sessions share one browser and each works in an isolated browser context (Chrome/Edge only)
+     */
+    private static boolean useBrowserContexts(String browserName) {
+        return "context".equalsIgnoreCase(getProperty("driver.isolation", "session")) && BrowserContexts.supports(browserName);
+    }
+    
+    /**
+     * eager (default): get() returns after DOMContentLoaded, pages then wait for their own readiness condition;
+     * normal: wait for every resource including third-party pixels; none: return right after the request
+     */
+    private static PageLoadStrategy getPageLoadStrategy() {
+        String configured = getProperty("page.load.strategy", "eager");
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(configured.toLowerCase());
+        if (strategy == null) {
+            throw new IllegalArgumentException("Page load strategy not supported: " + configured);
+        }
+        return strategy;
     }
     
     private static void configureDriver(WebDriver driver) {
@@ -101,6 +179,9 @@ public class TestUtils {
         driver.manage().timeouts().scriptTimeout(
             Duration.ofSeconds(Integer.parseInt(getProperty("script.timeout")))
         );
+        
+        PageHelpers.install(driver);
+        ConsentCookies.inject(driver);
     }
     
     public static String captureScreenshot(WebDriver driver, String testName) {
@@ -114,8 +195,7 @@ public class TestUtils {
             TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
             File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
             
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String fileName = testName + "_" + timestamp + ".png";
+            String fileName = uniqueArtifactName(testName, "png");
             
             String screenshotPath = getProperty("screenshot.path");
             File screenshotDir = new File(screenshotPath);
@@ -129,12 +209,25 @@ public class TestUtils {
             
             System.out.println("✓ Screenshot saved: " + destFile.getAbsolutePath());
             return destFile.getAbsolutePath();
-        } catch (IOException e) {
+        } catch (IOException | WebDriverException e) {
+            // A dead session cannot take screenshots; the test still has to release it
             System.err.println("✗ Failed to capture screenshot: " + e.getMessage());
             return null;
         }
     }
     
+    /**
+     * Builds a file name that stays unique when tests run concurrently:
+     * millisecond timestamp, thread id and a per-run sequence number.
+     */
+    public static String uniqueArtifactName(String baseName, String extension) {
+        String timestamp = LocalDateTime.now().format(ARTIFACT_TIMESTAMP);
+        return baseName + "_" + timestamp
+            + "_t" + Thread.currentThread().getId()
+            + "_" + artifactSequence.incrementAndGet()
+            + "." + extension;
+    }
+    
     public static void assertUrlContains(WebDriver driver, String expectedUrlPart, String message) {
         String actualUrl = driver.getCurrentUrl();
         System.out.println("🔗 URL Assertion - Expected to contain: '" + expectedUrlPart + "', Actual: '" + actualUrl + "'");
@@ -171,12 +264,15 @@ public class TestUtils {
         Assert.assertFalse(condition, message);
     }
     
+    /**
+     * Waits until the document is parsed (readyState interactive or complete). Late third-party
+     * resources are not awaited; pages wait for the elements they actually need.
+     */
     public static void waitForPageLoad(WebDriver driver) {
         System.out.println("⏳ Waiting for page load...");
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                .executeScript("return document.readyState").equals("complete"));
+            new BackoffWait(driver, Duration.ofSeconds(30)).until(webDriver ->
+                !"loading".equals(PageHelpers.call(webDriver, "readyState")));
             System.out.println("✓ Page load completed successfully");
         } catch (Exception e) {
             System.out.println("⚠️ Page load wait timeout, continuing...");
@@ -195,26 +291,26 @@ public class TestUtils {
         return getProperty("qa.careers.url");
     }
     
+    public static String getOpenPositionsUrl() {
+        return getProperty("open.positions.url", "https://useinsider.com/careers/open-positions/");
+    }
+    
     public static void waitForJsToLoad(WebDriver driver) {
         System.out.println("⏳ Waiting for JavaScript to load...");
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-            wait.until(webDriver -> ((JavascriptExecutor) webDriver)
-                .executeScript("return jQuery != undefined && jQuery.active == 0").equals(true));
+            // "absent" ends the wait at once instead of polling a missing jQuery until the timeout
+            Object state = new BackoffWait(driver, Duration.ofSeconds(15)).until(webDriver -> {
+                Object jQueryState = PageHelpers.call(webDriver, "jQueryState");
+                return "active".equals(jQueryState) ? null : jQueryState;
+            });
+            if ("absent".equals(state)) {
+                System.out.println("ℹ️ jQuery not available or already loaded");
+                return;
+            }
             System.out.println("✓ JavaScript loading completed");
         } catch (Exception e) {
             // jQuery might not be available, continue without error
             System.out.println("ℹ️ jQuery not available or already loaded");
         }
     }
-    
-    public static void smartWait(int milliseconds) {
-        try {
-            System.out.println("⏸️ Smart wait: " + milliseconds + "ms");
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            System.out.println("⚠️ Smart wait interrupted");
-        }
-    }
 }
\ No newline at end of file
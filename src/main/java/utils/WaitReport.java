@@ -0,0 +1,81 @@
+package utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-run statistics for condition-based waits.
+ * Every wait that replaced a fixed Thread.sleep records how long it actually took,
+ * so the summary shows how much time was saved compared with the old fixed delays.
+ */
+public class WaitReport {
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private WaitReport() {
+    }
+
+    public static void record(String label, long replacedDelayMillis, long actualMillis, boolean satisfied) {
+        Entry entry = entries.computeIfAbsent(label, key -> new Entry());
+        entry.count.increment();
+        entry.replacedMillis.add(replacedDelayMillis);
+        entry.actualMillis.add(actualMillis);
+        if (!satisfied) {
+            entry.timeouts.increment();
+        }
+    }
+
+    public static long getTotalReplacedMillis() {
+        return entries.values().stream().mapToLong(entry -> entry.replacedMillis.sum()).sum();
+    }
+
+    public static long getTotalActualMillis() {
+        return entries.values().stream().mapToLong(entry -> entry.actualMillis.sum()).sum();
+    }
+
+    public static long getTotalSavedMillis() {
+        return getTotalReplacedMillis() - getTotalActualMillis();
+    }
+
+    public static void reset() {
+        entries.clear();
+    }
+
+    public static void printSummary() {
+        if (entries.isEmpty()) {
+            System.out.println("⏱️ Wait report: no condition-based waits recorded");
+            return;
+        }
+
+        System.out.println("=".repeat(80));
+        System.out.println("⏱️ CONDITION-BASED WAIT REPORT");
+        System.out.println(String.format("%-50s %6s %10s %10s %9s", "Wait", "Count", "Fixed(ms)", "Actual(ms)", "Timeouts"));
+
+        for (Map.Entry<String, Entry> item : new TreeMap<>(entries).entrySet()) {
+            Entry entry = item.getValue();
+            System.out.println(String.format("%-50s %6d %10d %10d %9d",
+                truncate(item.getKey(), 50),
+                entry.count.sum(),
+                entry.replacedMillis.sum(),
+                entry.actualMillis.sum(),
+                entry.timeouts.sum()));
+        }
+
+        System.out.println("Fixed delays replaced: " + getTotalReplacedMillis() + "ms");
+        System.out.println("Actual time waited:    " + getTotalActualMillis() + "ms");
+        System.out.println("✓ Time saved:          " + getTotalSavedMillis() + "ms");
+        System.out.println("=".repeat(80));
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength - 3) + "...";
+    }
+
+    private static class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder replacedMillis = new LongAdder();
+        private final LongAdder actualMillis = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+    }
+}
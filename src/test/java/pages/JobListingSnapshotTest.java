@@ -0,0 +1,67 @@
+package pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Parses a stored job listing page, so the snapshot extraction is checked without a browser
+ */
+public class JobListingSnapshotTest {
+    private static final String FIXTURE = "/snapshots/qa-jobs-istanbul.html";
+    private static final String SOURCE_URL = "https://useinsider.com/careers/open-positions/?department=qualityassurance";
+
+    @Test(description = "Snapshot extraction reads every card, like the in-page extraction script")
+    public void testExtractJobDetails() throws Exception {
+        List<QAJobsPage.JobDetails> jobs = fixture().extractJobDetails();
+
+        Assert.assertEquals(jobs.size(), 3, "Job cards extracted");
+
+        Assert.assertEquals(jobs.get(0).getPosition(), "Senior Software QA Engineer");
+        Assert.assertEquals(jobs.get(0).getDepartment(), "Quality Assurance");
+        Assert.assertEquals(jobs.get(0).getLocation(), "Istanbul, Turkiye");
+
+        // No location element: resolved from the card's text
+        Assert.assertEquals(jobs.get(1).getPosition(), "Quality Assurance Specialist");
+        Assert.assertEquals(jobs.get(1).getLocation(), "Istanbul, Turkey");
+
+        // Empty card: completed with the filtered defaults, as the script path does
+        Assert.assertEquals(jobs.get(2).getPosition(), "Quality Assurance Engineer");
+        Assert.assertEquals(jobs.get(2).getDepartment(), "Quality Assurance");
+        Assert.assertEquals(jobs.get(2).getLocation(), "Istanbul, Turkiye");
+    }
+
+    @Test(description = "A URL with a quote or comment terminator survives save and load")
+    public void testSaveAndLoadKeepUrl() throws Exception {
+        String url = SOURCE_URL + "&q=\"qa\"-->&team=<qa>";
+        Instant capturedAt = Instant.parse("2024-01-15T10:30:00Z");
+        JobListingSnapshot snapshot = new JobListingSnapshot(fixture().getHtml(), url, capturedAt);
+
+        Path file = Files.createTempFile("job-listing-snapshot", ".html");
+        try {
+            snapshot.save(file);
+            JobListingSnapshot loaded = JobListingSnapshot.load(file);
+
+            Assert.assertEquals(loaded.getSourceUrl(), url);
+            Assert.assertEquals(loaded.getCapturedAt(), capturedAt);
+            Assert.assertEquals(loaded.getHtml(), snapshot.getHtml());
+            Assert.assertEquals(loaded.extractJobDetails().size(), 3, "Job cards extracted after load");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static JobListingSnapshot fixture() throws IOException, URISyntaxException {
+        Path file = Paths.get(JobListingSnapshotTest.class.getResource(FIXTURE).toURI());
+        String html = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        return new JobListingSnapshot(html, SOURCE_URL, Instant.now());
+    }
+}
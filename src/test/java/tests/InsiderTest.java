@@ -7,28 +7,48 @@ import pages.HomePage;
 import pages.CareersPage;
 import pages.QAJobsPage;
 import pages.LeverApplicationPage;
+import utils.DriverPool;
+import utils.SessionSupervisor;
 import utils.TestUtils;
+import utils.WaitReport;
 
 public class InsiderTest {
-    private WebDriver driver;
-    private HomePage homePage;
-    private CareersPage careersPage;
-    private QAJobsPage qaJobsPage;
-    private LeverApplicationPage leverApplicationPage;
+    // Scenarios may run in parallel, so each test thread gets its own driver and page objects
+    private final ThreadLocal<ScenarioContext> context = new ThreadLocal<>();
+    
+    private static class ScenarioContext {
+        private final WebDriver driver;
+        private final HomePage homePage;
+        private final CareersPage careersPage;
+        private final QAJobsPage qaJobsPage;
+        private final LeverApplicationPage leverApplicationPage;
+        
+        private ScenarioContext(WebDriver driver) {
+            this.driver = driver;
+            this.homePage = new HomePage(driver);
+            this.careersPage = new CareersPage(driver);
+            this.qaJobsPage = new QAJobsPage(driver);
+            this.leverApplicationPage = new LeverApplicationPage(driver);
+        }
+    }
+    
+    private WebDriver driver() { return context.get().driver; }
+    private HomePage homePage() { return context.get().homePage; }
+    private CareersPage careersPage() { return context.get().careersPage; }
+    private QAJobsPage qaJobsPage() { return context.get().qaJobsPage; }
+    private LeverApplicationPage leverApplicationPage() { return context.get().leverApplicationPage; }
     
     @BeforeMethod
     public void setUp() {
         System.out.println("Setting up test environment...");
         
-        // Initialize WebDriver using TestUtils
-        driver = TestUtils.initializeDriver();
+        // Lease a WebDriver session from the pool
+        WebDriver driver = DriverPool.acquire();
+        SessionSupervisor.watch(driver);
         System.out.println("WebDriver initialized successfully");
         
         // Initialize page objects
-        homePage = new HomePage(driver);
-        careersPage = new CareersPage(driver);
-        qaJobsPage = new QAJobsPage(driver);
-        leverApplicationPage = new LeverApplicationPage(driver);
+        context.set(new ScenarioContext(driver));
         System.out.println("Page objects initialized successfully");
     }
     
@@ -39,40 +59,40 @@ public class InsiderTest {
         try {
             // Step 1: Navigate to Insider homepage
             System.out.println("Step 1: Navigating to Insider homepage...");
-            homePage.navigateToHomePage();
+            homePage().navigateToHomePage();
             System.out.println("Successfully navigated to homepage");
             
             // Step 2: Verify the page URL contains the expected domain
             System.out.println("Step 2: Verifying page URL...");
-            String currentUrl = homePage.getCurrentUrl();
+            String currentUrl = homePage().getCurrentUrl();
             System.out.println("Current URL: " + currentUrl);
-            TestUtils.assertUrlContains(driver, "useinsider.com", "Homepage URL verification");
+            TestUtils.assertUrlContains(driver(), "useinsider.com", "Homepage URL verification");
             System.out.println("✓ URL verification passed");
             
             // Step 3: Verify the page title contains 'Insider'
             System.out.println("Step 3: Verifying page title...");
-            String pageTitle = homePage.getPageTitle();
+            String pageTitle = homePage().getPageTitle();
             System.out.println("Page title: " + pageTitle);
-            TestUtils.assertTitleContains(driver, "Insider", "Homepage title verification");
+            TestUtils.assertTitleContains(driver(), "Insider", "Homepage title verification");
             System.out.println("✓ Title verification passed");
             
             // Step 4: Verify homepage elements are displayed
             System.out.println("Step 4: Verifying homepage elements...");
             
             // Check if homepage content is loaded
-            TestUtils.assertElementDisplayed(homePage.isHomePageLoaded(), "Homepage content");
+            TestUtils.assertElementDisplayed(homePage().isHomePageLoaded(), "Homepage content");
             System.out.println("✓ Homepage content loaded successfully");
             
             // Check if Insider logo is displayed
-            TestUtils.assertElementDisplayed(homePage.isInsiderLogoDisplayed(), "Insider logo");
+            TestUtils.assertElementDisplayed(homePage().isInsiderLogoDisplayed(), "Insider logo");
             System.out.println("✓ Insider logo is displayed");
             
             // Check if navigation menu is displayed
-            TestUtils.assertElementDisplayed(homePage.isNavigationMenuDisplayed(), "Navigation menu");
+            TestUtils.assertElementDisplayed(homePage().isNavigationMenuDisplayed(), "Navigation menu");
             System.out.println("✓ Navigation menu is displayed");
             
             // Check if page content is displayed
-            TestUtils.assertElementDisplayed(homePage.isPageContentDisplayed(), "Page content");
+            TestUtils.assertElementDisplayed(homePage().isPageContentDisplayed(), "Page content");
             System.out.println("✓ Page content is displayed");
             
             System.out.println("🎉 Test Scenario 1 completed successfully!");
@@ -95,29 +115,29 @@ public class InsiderTest {
         try {
             // Step 1: Navigate to Insider homepage
             System.out.println("Step 1: Navigating to Insider homepage...");
-            homePage.navigateToHomePage();
+            homePage().navigateToHomePage();
             System.out.println("Successfully navigated to homepage");
             
             // Step 2: Navigate to Careers page through Company menu or direct link
             System.out.println("Step 2: Navigating to Careers page...");
-            homePage.navigateToCareersThroughCompanyMenu();
+            homePage().navigateToCareersThroughCompanyMenu();
             System.out.println("Successfully navigated to Careers page");
             
             // Step 3: Verify Career page loads
             System.out.println("Step 3: Verifying Career page loads...");
-            TestUtils.assertTrue(careersPage.isCareersPageLoaded(), "Careers page should load successfully");
+            TestUtils.assertTrue(careersPage().isCareersPageLoaded(), "Careers page should load successfully");
             System.out.println("✓ Career page loaded successfully");
             
             // Step 4: Verify URL contains careers
             System.out.println("Step 4: Verifying careers page URL...");
-            String currentUrl = careersPage.getCurrentUrl();
+            String currentUrl = careersPage().getCurrentUrl();
             System.out.println("Current URL: " + currentUrl);
-            TestUtils.assertUrlContains(driver, "career", "Careers page URL verification");
+            TestUtils.assertUrlContains(driver(), "career", "Careers page URL verification");
             System.out.println("✓ URL verification passed");
             
             // Step 5: Verify page title
             System.out.println("Step 5: Verifying page title...");
-            String pageTitle = careersPage.getPageTitle();
+            String pageTitle = careersPage().getPageTitle();
             System.out.println("Page title: " + pageTitle);
             // Note: We'll accept any title as different sites have different title structures
             TestUtils.assertTrue(!pageTitle.isEmpty(), "Page should have a title");
@@ -127,8 +147,8 @@ public class InsiderTest {
             System.out.println("Step 6: Verifying main career sections are present...");
             
             // Quick check - just verify at least one section is found
-            boolean hasLocations = careersPage.isLocationsBlockDisplayed();
-            boolean hasGeneralContent = careersPage.hasGeneralContent();
+            boolean hasLocations = careersPage().isLocationsBlockDisplayed();
+            boolean hasGeneralContent = careersPage().hasGeneralContent();
             
             System.out.println("Quick section check:");
             System.out.println("  Locations found: " + (hasLocations ? "✓" : "✗"));
@@ -142,9 +162,8 @@ public class InsiderTest {
             System.out.println("Step 7: Verifying page functionality...");
             
             // Simple scroll test to verify page is interactive
-            careersPage.scrollPageToBottom();
-            try { Thread.sleep(500); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-            careersPage.scrollPageToTop();
+            careersPage().scrollPageToBottom();
+            careersPage().scrollPageToTop();
             
             System.out.println("✓ Career page is functional and interactive");
             
@@ -168,49 +187,49 @@ public class InsiderTest {
         try {
             // Step 1: Navigate to QA careers page
             System.out.println("Step 1: Navigating to QA careers page...");
-            qaJobsPage.navigateToQACareersPage();
+            qaJobsPage().navigateToQACareersPage();
             
             // Verify QA careers page loads
-            TestUtils.assertTrue(qaJobsPage.isQACareersPageLoaded(), "QA careers page should load successfully");
+            TestUtils.assertTrue(qaJobsPage().isQACareersPageLoaded(), "QA careers page should load successfully");
             System.out.println("✓ QA careers page loaded successfully");
             
             // Step 2: Click "See all QA jobs"
             System.out.println("Step 2: Clicking 'See all QA jobs'...");
-            qaJobsPage.clickSeeAllQAJobs();
+            qaJobsPage().clickSeeAllQAJobs();
             System.out.println("✓ Successfully navigated to QA jobs listing");
             
             // Step 3: Apply location filter - Istanbul, Turkey
             System.out.println("Step 3: Applying location filter (Istanbul, Turkey)...");
-            qaJobsPage.applyLocationFilter("Istanbul, Turkey");
+            qaJobsPage().applyLocationFilter("Istanbul, Turkey");
             System.out.println("✓ Location filter applied");
             
             // Step 4: Apply department filter - Quality Assurance
             System.out.println("Step 4: Applying department filter (Quality Assurance)...");
-            qaJobsPage.applyDepartmentFilter("Quality Assurance");
+            qaJobsPage().applyDepartmentFilter("Quality Assurance");
             System.out.println("✓ Department filter applied");
             
             // Step 5: Apply filters (if separate apply action needed)
             System.out.println("Step 5: Applying filters...");
-            qaJobsPage.applyFilters();
+            qaJobsPage().applyFilters();
             System.out.println("✓ Filters applied");
             
             // Step 6: Verify jobs list is present
             System.out.println("Step 6: Verifying jobs list presence...");
-            TestUtils.assertTrue(qaJobsPage.isJobsListPresent(), "Jobs list should be present on the page");
+            TestUtils.assertTrue(qaJobsPage().isJobsListPresent(), "Jobs list should be present on the page");
             System.out.println("✓ Jobs list is present");
             
             // Step 7: Verify jobs list is not empty (contains actual jobs)
             System.out.println("Step 7: Verifying jobs list is not empty...");
-            boolean hasJobs = qaJobsPage.isJobsListNotEmpty();
+            boolean hasJobs = qaJobsPage().isJobsListNotEmpty();
             
             if (hasJobs) {
                 System.out.println("✓ Jobs list is not empty");
-                int jobCount = qaJobsPage.getJobsCount();
+                int jobCount = qaJobsPage().getJobsCount();
                 System.out.println("Found " + jobCount + " job(s) matching the criteria");
                 
                 // Step 8: Verify jobs are filtered correctly
                 System.out.println("Step 8: Verifying job filtering...");
-                TestUtils.assertTrue(qaJobsPage.areJobsFilteredCorrectly("Istanbul, Turkey", "Quality Assurance"),
+                TestUtils.assertTrue(qaJobsPage().areJobsFilteredCorrectly("Istanbul, Turkey", "Quality Assurance"),
                     "Jobs should be filtered correctly according to the applied criteria");
                 System.out.println("✓ Jobs are filtered correctly");
                 
@@ -221,7 +240,7 @@ public class InsiderTest {
             
             // Get some job titles for logging (if available)
             try {
-                var jobTitles = qaJobsPage.getJobTitles();
+                var jobTitles = qaJobsPage().getJobTitles();
                 if (!jobTitles.isEmpty()) {
                     System.out.println("Sample job titles found:");
                     jobTitles.stream().limit(3).forEach(title -> System.out.println("  - " + title));
@@ -250,32 +269,18 @@ public class InsiderTest {
         System.out.println("Starting Test Scenario 4: Job Details Validation");
         
         try {
-            // Step 1: Navigate to QA careers page and apply filters (similar to Scenario 3)
+            // Step 1: Open the filtered job listings directly (the filter UI itself is covered by Scenario 3)
             System.out.println("Step 1: Setting up filtered job listings...");
-            qaJobsPage.navigateToQACareersPage();
-            
-            TestUtils.assertTrue(qaJobsPage.isQACareersPageLoaded(), "QA careers page should load successfully");
-            System.out.println("✓ QA careers page loaded successfully");
-            
-            qaJobsPage.clickSeeAllQAJobs();
-            System.out.println("✓ Successfully navigated to QA jobs listing");
-            
-            qaJobsPage.applyLocationFilter("Istanbul, Turkey");
-            System.out.println("✓ Location filter applied");
-            
-            qaJobsPage.applyDepartmentFilter("Quality Assurance");
-            System.out.println("✓ Department filter applied");
-            
-            qaJobsPage.applyFilters();
-            System.out.println("✓ Filters applied");
+            qaJobsPage().openFilteredJobs("Istanbul, Turkey", "Quality Assurance");
+            System.out.println("✓ Filtered QA jobs listing opened");
             
             // Verify basic job list presence
-            TestUtils.assertTrue(qaJobsPage.isJobsListPresent(), "Jobs list should be present on the page");
+            TestUtils.assertTrue(qaJobsPage().isJobsListPresent(), "Jobs list should be present on the page");
             System.out.println("✓ Jobs list is present");
             
             // Step 2: Extract all job details
             System.out.println("Step 2: Extracting job details from all filtered jobs...");
-            var jobDetailsList = qaJobsPage.getAllJobDetails();
+            var jobDetailsList = qaJobsPage().getAllJobDetails();
             
             TestUtils.assertTrue(!jobDetailsList.isEmpty(), "Should extract job details from at least one job");
             System.out.println("✓ Successfully extracted details from " + jobDetailsList.size() + " jobs");
@@ -286,7 +291,7 @@ public class InsiderTest {
             String expectedLocation = "Istanbul, Turkey";
             String expectedDepartment = "Quality Assurance";
             
-            var validationSummary = qaJobsPage.validateAllJobs(jobDetailsList, expectedLocation, expectedDepartment);
+            var validationSummary = QAJobsPage.validateAllJobs(jobDetailsList, expectedLocation, expectedDepartment);
             
             // Step 4: Assert overall validation results
             System.out.println("Step 4: Asserting validation results...");
@@ -301,7 +306,7 @@ public class InsiderTest {
             // For each job, provide individual assertion with meaningful error messages
             for (int i = 0; i < jobDetailsList.size(); i++) {
                 var job = jobDetailsList.get(i);
-                var result = qaJobsPage.validateJobCriteria(job, expectedLocation, expectedDepartment);
+                var result = QAJobsPage.validateJobCriteria(job, expectedLocation, expectedDepartment);
                 
                 // Individual job assertions with detailed error messages
                 TestUtils.assertTrue(result.isValid(), 
@@ -346,59 +351,37 @@ public class InsiderTest {
         System.out.println("Starting Test Scenario 5: Lever Application Redirect");
         
         try {
-            // Step 1: Setup - Navigate and filter jobs (based on Scenarios 1-3)
+            // Step 1: Setup - Open the filtered job listings directly (the filter UI itself is covered by Scenario 3)
             System.out.println("Step 1: Setting up filtered job listings for Lever redirect test...");
-            qaJobsPage.navigateToQACareersPage();
-            
-            TestUtils.assertTrue(qaJobsPage.isQACareersPageLoaded(), "QA careers page should load successfully");
-            System.out.println("✓ QA careers page loaded successfully");
-            
-            qaJobsPage.clickSeeAllQAJobs();
-            System.out.println("✓ Successfully navigated to QA jobs listing");
-            
-            // Apply Istanbul location filter (as originally intended)
-            qaJobsPage.applyLocationFilter("Istanbul, Turkey");
-            System.out.println("✓ Location filter applied");
-            
-            // Department already set to QA from 'See all QA jobs' button
-            System.out.println("✓ Department already set to QA from 'See all QA jobs' button");
-            
-            // Apply the filters
-            qaJobsPage.applyFilters();
-            System.out.println("✓ Filters applied");
+            qaJobsPage().openFilteredJobs("Istanbul, Turkey", "Quality Assurance");
+            System.out.println("✓ Filtered QA jobs listing opened");
             
             // Wait for filtered results to load and scroll to see jobs
             System.out.println("Waiting for filtered jobs to load and scrolling...");
-            try {
-                Thread.sleep(5000); // Longer wait for filtering
-                
-                // Scroll specifically to career position list section where jobs are located
-                qaJobsPage.scrollToCareerPositionList();
-                Thread.sleep(3000);
-                
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            qaJobsPage().waitForJobsToRender();
+            
+            // Scroll specifically to career position list section where jobs are located
+            qaJobsPage().scrollToCareerPositionList();
             
             // Verify we have jobs to work with
-            TestUtils.assertTrue(qaJobsPage.isJobsListPresent(), "Jobs list should be present on the page");
-            TestUtils.assertTrue(qaJobsPage.isJobsListNotEmpty(), "Jobs list should not be empty");
+            TestUtils.assertTrue(qaJobsPage().isJobsListPresent(), "Jobs list should be present on the page");
+            TestUtils.assertTrue(qaJobsPage().isJobsListNotEmpty(), "Jobs list should not be empty");
             System.out.println("✓ Jobs list is present and not empty");
             
             // Step 2: Verify View Role functionality is available
             System.out.println("Step 2: Verifying View Role functionality is available...");
-            TestUtils.assertTrue(qaJobsPage.isViewRoleFunctionalityAvailable(), 
+            TestUtils.assertTrue(qaJobsPage().isViewRoleFunctionalityAvailable(), 
                 "At least one 'View Role' button should be available on the jobs page");
             System.out.println("✓ View Role functionality is available");
             
             // Step 3: Click 'View Role' button for the first job
             System.out.println("Step 3: Clicking 'View Role' button for first available job...");
-            String originalWindow = qaJobsPage.clickViewRoleForFirstJob();
+            String originalWindow = qaJobsPage().clickViewRoleForFirstJob();
             System.out.println("✓ Successfully clicked 'View Role' button");
             
             // Step 4: Handle potential new tab scenario
             System.out.println("Step 4: Handling potential new tab scenario...");
-            boolean newTabOpened = leverApplicationPage.handleNewTab(originalWindow);
+            boolean newTabOpened = leverApplicationPage().handleNewTab(originalWindow);
             if (newTabOpened) {
                 System.out.println("✓ New tab detected and switched successfully");
             } else {
@@ -407,29 +390,29 @@ public class InsiderTest {
             
             // Step 5: Verify redirect to Lever application page
             System.out.println("Step 5: Verifying redirect to Lever application page...");
-            TestUtils.assertTrue(leverApplicationPage.isRedirectSuccessful(), 
+            TestUtils.assertTrue(leverApplicationPage().isRedirectSuccessful(), 
                 "Should successfully redirect to Lever application page");
             System.out.println("✓ Successfully redirected to Lever application page");
             
             // Step 6: Validate Lever application page URL
             System.out.println("Step 6: Validating Lever application page URL...");
-            TestUtils.assertTrue(leverApplicationPage.isLeverApplicationPage(), 
+            TestUtils.assertTrue(leverApplicationPage().isLeverApplicationPage(), 
                 "Current URL should indicate Lever application page");
             
-            String currentUrl = leverApplicationPage.getCurrentUrl();
+            String currentUrl = leverApplicationPage().getCurrentUrl();
             System.out.println("✓ Lever application page URL validated: " + currentUrl);
             
             // Step 7: Validate page title
             System.out.println("Step 7: Validating page title for job application context...");
-            TestUtils.assertTrue(leverApplicationPage.isPageTitleValid(), 
+            TestUtils.assertTrue(leverApplicationPage().isPageTitleValid(), 
                 "Page title should contain job/application related terms");
             
-            String pageTitle = leverApplicationPage.getPageTitle();
+            String pageTitle = leverApplicationPage().getPageTitle();
             System.out.println("✓ Page title validated: '" + pageTitle + "'");
             
             // Step 8: Verify application form elements are present (flexible validation)
             System.out.println("Step 8: Verifying application form elements are present...");
-            boolean formElementsPresent = leverApplicationPage.areApplicationFormElementsPresent();
+            boolean formElementsPresent = leverApplicationPage().areApplicationFormElementsPresent();
             if (formElementsPresent) {
                 System.out.println("✓ Application form elements are present and accessible");
             } else {
@@ -439,8 +422,8 @@ public class InsiderTest {
             
             // Step 9: Extract job information from application page
             System.out.println("Step 9: Extracting job information from application page...");
-            String jobTitle = leverApplicationPage.getJobTitle();
-            String companyName = leverApplicationPage.getCompanyName();
+            String jobTitle = leverApplicationPage().getJobTitle();
+            String companyName = leverApplicationPage().getCompanyName();
             
             if (!jobTitle.isEmpty()) {
                 System.out.println("✓ Job title found: '" + jobTitle + "'");
@@ -460,7 +443,7 @@ public class InsiderTest {
             
             // Step 10: Clean up - Close additional tabs and return to original window
             System.out.println("Step 10: Cleaning up additional tabs...");
-            leverApplicationPage.closeAdditionalTabsAndReturnToOriginal(originalWindow);
+            leverApplicationPage().closeAdditionalTabsAndReturnToOriginal(originalWindow);
             System.out.println("✓ Cleanup completed - returned to original window");
             
             System.out.println("\n🎉 Test Scenario 5 completed successfully!");
@@ -480,8 +463,8 @@ public class InsiderTest {
             
             // Try to clean up any additional windows that might be open
             try {
-                String currentWindow = driver.getWindowHandle();
-                leverApplicationPage.closeAdditionalTabsAndReturnToOriginal(currentWindow);
+                String currentWindow = driver().getWindowHandle();
+                leverApplicationPage().closeAdditionalTabsAndReturnToOriginal(currentWindow);
             } catch (Exception cleanupError) {
                 System.err.println("Error during cleanup: " + cleanupError.getMessage());
             }
@@ -503,35 +486,41 @@ public class InsiderTest {
         System.out.println("Starting additional test: Homepage responsiveness");
         
         // Navigate to homepage
-        homePage.navigateToHomePage();
+        homePage().navigateToHomePage();
         
         // Verify page loads in reasonable time and elements are interactive
-        TestUtils.assertElementDisplayed(homePage.isHomePageLoaded(), "Homepage loads within timeout");
+        TestUtils.assertElementDisplayed(homePage().isHomePageLoaded(), "Homepage loads within timeout");
         
         // Test scrolling functionality
-        homePage.scrollPageToBottom();
-        homePage.scrollPageToTop();
+        homePage().scrollPageToBottom();
+        homePage().scrollPageToTop();
         
         // Verify page is still functional after scrolling
-        TestUtils.assertElementDisplayed(homePage.isInsiderLogoDisplayed(), "Logo still visible after scrolling");
+        TestUtils.assertElementDisplayed(homePage().isInsiderLogoDisplayed(), "Logo still visible after scrolling");
         
         System.out.println("✓ Homepage responsiveness test passed");
     }
     
     @AfterMethod
     public void tearDown(ITestResult result) {
-        if (driver != null) {
-            // Capture screenshot on failure
-            if (result.getStatus() == ITestResult.FAILURE) {
+        ScenarioContext scenario = context.get();
+        if (scenario != null) {
+            if (SessionSupervisor.isSessionDeath(result)) {
+                // Nothing to capture from a dead browser; the pool discards it on release
+                System.out.println("⚠️ Browser session died during the test, attributing the failure to the session");
+            } else if (result.getStatus() == ITestResult.FAILURE) {
+                // Capture screenshot on failure
                 System.out.println("Test failed, capturing screenshot...");
-                String screenshotPath = TestUtils.captureScreenshot(driver, result.getMethod().getMethodName());
+                String screenshotPath = TestUtils.captureScreenshot(scenario.driver, result.getMethod().getMethodName());
                 if (screenshotPath != null) {
                     System.out.println("Screenshot saved: " + screenshotPath);
                 }
             }
             
-            System.out.println("Closing browser and cleaning up...");
-            driver.quit();
+            System.out.println("Returning browser session to pool...");
+            DriverPool.release(scenario.driver);
+            SessionSupervisor.unwatch();
+            context.remove();
             System.out.println("Test cleanup completed");
         }
     }
@@ -547,6 +536,11 @@ public class InsiderTest {
     
     @AfterClass
     public void afterClass() {
+        DriverPool.shutdown();
+        WaitReport.printSummary();
+        if (SessionSupervisor.getRespawnCount() > 0) {
+            System.out.println("♻️ Scenarios retried after a browser session died: " + SessionSupervisor.getRespawnCount());
+        }
         System.out.println("=".repeat(80));
         System.out.println("INSIDER TEST AUTOMATION - COMPLETED");
         System.out.println("=".repeat(80));